@@ -14,6 +14,7 @@ public class CorsGlobalConfiguration {
         corsConfig.addAllowedOrigin("http://localhost:8085");
         corsConfig.addAllowedMethod("*");
         corsConfig.addAllowedHeader("*");
+        corsConfig.addExposedHeader("X-Next-Cursor");
         corsConfig.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
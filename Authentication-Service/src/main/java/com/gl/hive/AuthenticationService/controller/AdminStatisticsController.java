@@ -0,0 +1,33 @@
+package com.gl.hive.AuthenticationService.controller;
+
+import com.gl.hive.AuthenticationService.model.response.UserStatisticsResponse;
+import com.gl.hive.AuthenticationService.service.UserStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the admin dashboard statistics.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/stats")
+@RequiredArgsConstructor
+public class AdminStatisticsController {
+
+    private final UserStatisticsService userStatisticsService;
+
+    /**
+     * Returns the user counts by role, department and active state.
+     *
+     * @return the user statistics as {@link UserStatisticsResponse}
+     */
+    @GetMapping
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<UserStatisticsResponse> getUserStatistics() {
+        return ResponseEntity.ok(userStatisticsService.getStatistics());
+    }
+
+}
@@ -4,9 +4,9 @@ import com.gl.hive.AuthenticationService.model.entity.User;
 import com.gl.hive.AuthenticationService.model.entity.Roles;
 import com.gl.hive.AuthenticationService.model.entity.Departments;
 import com.gl.hive.AuthenticationService.repository.UserRepository;
-import com.gl.hive.AuthenticationService.repository.RolesRepository;
-import com.gl.hive.AuthenticationService.repository.DepartmentsRepository;
+import com.gl.hive.AuthenticationService.service.ReferenceDataService;
 import com.gl.hive.AuthenticationService.service.UserService;
+import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
 import com.gl.hive.shared.lib.model.enums.Role;
 import com.gl.hive.shared.lib.model.enums.Department;
 import lombok.RequiredArgsConstructor;
@@ -28,8 +28,7 @@ import java.util.HashSet;
 @RequiredArgsConstructor
 public class AdminUserController {
     private final UserRepository userRepository;
-    private final RolesRepository rolesRepository;
-    private final DepartmentsRepository departmentsRepository;
+    private final ReferenceDataService referenceDataService;
     private final UserService userService;    @GetMapping
     @PreAuthorize("hasAuthority('ROLE_ADMIN') or hasAuthority('ROLE_PROJECT_LEADER')")
     public List<User> getAllUsers() {
@@ -90,12 +89,9 @@ public class AdminUserController {
                         for (UpdateUserRequest.DepartmentInfo deptInfo : updateRequest.getDepartments()) {
                             try {
                                 Department departmentEnum = Department.valueOf(deptInfo.getDepartment().toUpperCase());
-                                Optional<Departments> departmentEntity = departmentsRepository.findByDepartment(departmentEnum);
-                                if (departmentEntity.isPresent()) {
-                                    departmentEntities.add(departmentEntity.get());
-                                } else {
-                                    log.warn("Department not found in database: {}", deptInfo.getDepartment());
-                                }
+                                departmentEntities.add(referenceDataService.getDepartment(departmentEnum));
+                            } catch (ResourceNotFoundException e) {
+                                log.warn("Department not found in database: {}", deptInfo.getDepartment());
                             } catch (IllegalArgumentException e) {
                                 log.error("Invalid department: {}", deptInfo.getDepartment());
                             }
@@ -167,14 +163,14 @@ public class AdminUserController {
             log.error("Invalid role: {}", role);
             return ResponseEntity.badRequest().build();
         }
-          Optional<Roles> newRole = rolesRepository.findByRole(roleEnum);
-        if (newRole.isPresent()) {
+        try {
+            Roles newRole = referenceDataService.getRole(roleEnum);
             user.getRoles().clear();
-            user.getRoles().add(newRole.get());
+            user.getRoles().add(newRole);
             userRepository.save(user);
             log.info("Updated user {} role to {}", userId, roleEnum);
             return ResponseEntity.ok(user);
-        } else {
+        } catch (ResourceNotFoundException e) {
             log.error("Role not found in database: {}", roleEnum);
             return ResponseEntity.status(400).build();
         }
@@ -211,14 +207,11 @@ public class AdminUserController {
             if (createRequest.getDepartment() != null && !createRequest.getDepartment().trim().isEmpty()) {
                 try {
                     Department departmentEnum = Department.valueOf(createRequest.getDepartment().toUpperCase());
-                    Optional<Departments> departmentEntity = departmentsRepository.findByDepartment(departmentEnum);
-                    if (departmentEntity.isPresent()) {
-                        Set<Departments> departments = new HashSet<>();
-                        departments.add(departmentEntity.get());
-                        newUser.setDepartments(departments);
-                    } else {
-                        log.warn("Department not found in database: {}", createRequest.getDepartment());
-                    }
+                    Set<Departments> departments = new HashSet<>();
+                    departments.add(referenceDataService.getDepartment(departmentEnum));
+                    newUser.setDepartments(departments);
+                } catch (ResourceNotFoundException e) {
+                    log.warn("Department not found in database: {}", createRequest.getDepartment());
                 } catch (IllegalArgumentException e) {
                     log.error("Invalid department: {}", createRequest.getDepartment());
                     return ResponseEntity.badRequest().build();
@@ -231,14 +224,11 @@ public class AdminUserController {
                     String cleanRole = createRequest.getRole().startsWith("ROLE_") ? 
                         createRequest.getRole().substring(5) : createRequest.getRole();
                     Role roleEnum = Role.valueOf(cleanRole.toUpperCase());
-                    Optional<Roles> roleEntity = rolesRepository.findByRole(roleEnum);
-                    if (roleEntity.isPresent()) {
-                        Set<Roles> roles = new HashSet<>();
-                        roles.add(roleEntity.get());
-                        newUser.setRoles(roles);
-                    } else {
-                        log.warn("Role not found in database: {}", roleEnum);
-                    }
+                    Set<Roles> roles = new HashSet<>();
+                    roles.add(referenceDataService.getRole(roleEnum));
+                    newUser.setRoles(roles);
+                } catch (ResourceNotFoundException e) {
+                    log.warn("Role not found in database: {}", createRequest.getRole());
                 } catch (IllegalArgumentException e) {
                     log.error("Invalid role: {}", createRequest.getRole());
                     return ResponseEntity.badRequest().build();
@@ -2,6 +2,7 @@ package com.gl.hive.AuthenticationService.controller.intercommunication;
 
 import com.gl.hive.AuthenticationService.service.intercommunication.UserInterCommunicationService;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import com.gl.hive.shared.lib.model.dto.ReferenceDataDTO;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 import com.gl.hive.shared.lib.model.enums.Role;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
+import java.util.List;
+
 import static org.springframework.http.HttpStatus.CREATED;
 
 /**
@@ -75,6 +79,18 @@ public class InterCommunicationController {
     }
 
 
+    /**
+     * Returns the IDs of all the seeded roles and departments, so other services can resolve them
+     * locally with a single fetch instead of asking for each one.
+     *
+     * @return the roles and departments IDs as {@link ReferenceDataDTO}
+     */
+    @GetMapping("/reference-data")
+    public ReferenceDataDTO getReferenceData() {
+        return userInterCommunicationService.getReferenceData();
+    }
+
+
     /**
      * Find a user by its id, and then map it to the {@link UserDTO}.
      *
@@ -87,4 +103,16 @@ public class InterCommunicationController {
         return userInterCommunicationService.getUserDTOById(userId);
     }
 
+
+    /**
+     * Find many users by their ids in one query, and then map them to {@link UserDTO}.
+     *
+     * @param userIds the ids of the users that we are looking for
+     * @return the found users mapped as {@link UserDTO}; ids that are not found are left out
+     */
+    @PostMapping("/get-users")
+    public List<UserDTO> getUserDTOsByIds(@RequestBody Collection<Long> userIds) {
+        return userInterCommunicationService.getUserDTOsByIds(userIds);
+    }
+
 }
@@ -3,6 +3,8 @@ package com.gl.hive.AuthenticationService.model.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.gl.hive.AuthenticationService.model.entity.jwt.JwtToken;
+import com.gl.hive.AuthenticationService.model.entity.listener.UserStatisticsListener;
+import com.gl.hive.AuthenticationService.model.entity.listener.UserStatisticsSnapshot;
 import com.gl.hive.shared.lib.model.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
@@ -18,6 +20,7 @@ import java.util.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@EntityListeners(UserStatisticsListener.class)
 public class User implements UserDetails {
 
     @Id
@@ -64,6 +67,19 @@ public class User implements UserDetails {
     private List<JwtToken> jwtTokens;
     /* end of relationships */
 
+    /*
+     * Hibernate bumps the version when only the roles or departments change, and bumping it issues an UPDATE on the user
+     * row, so @PostUpdate fires and the UserStatisticsListener sees the change. Primitive, so the existing rows start at 0.
+     */
+    @Version
+    @Column(columnDefinition = "bigint not null default 0")
+    private long version;
+
+    // the state as it was loaded, used for updating the user statistics counters
+    @Transient
+    @JsonIgnore
+    private transient UserStatisticsSnapshot statisticsSnapshot;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         List<SimpleGrantedAuthority> authorities = new ArrayList<>();
@@ -0,0 +1,49 @@
+package com.gl.hive.AuthenticationService.model.entity.listener;
+
+import com.gl.hive.AuthenticationService.model.entity.User;
+import com.gl.hive.AuthenticationService.service.UserStatisticsService;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the {@link UserStatisticsService} counters up to date on every {@link User} mutation.
+ * <p>
+ * The state of the user as it was loaded is kept on the entity, so an update only applies the difference.
+ */
+@RequiredArgsConstructor
+public class UserStatisticsListener {
+
+    private final UserStatisticsService userStatisticsService;
+
+    @PostLoad
+    public void onLoad(User user) {
+        user.setStatisticsSnapshot(UserStatisticsSnapshot.of(user));
+    }
+
+    @PostPersist
+    public void onPersist(User user) {
+        UserStatisticsSnapshot current = UserStatisticsSnapshot.of(user);
+        userStatisticsService.apply(null, current);
+        user.setStatisticsSnapshot(current);
+    }
+
+    @PostUpdate
+    public void onUpdate(User user) {
+        UserStatisticsSnapshot current = UserStatisticsSnapshot.of(user);
+        userStatisticsService.apply(user.getStatisticsSnapshot(), current);
+        user.setStatisticsSnapshot(current);
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        UserStatisticsSnapshot previous = user.getStatisticsSnapshot() != null
+                ? user.getStatisticsSnapshot()
+                : UserStatisticsSnapshot.of(user);
+        userStatisticsService.apply(previous, null);
+        user.setStatisticsSnapshot(null);
+    }
+
+}
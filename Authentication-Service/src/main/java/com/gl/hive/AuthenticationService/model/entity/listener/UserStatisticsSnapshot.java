@@ -0,0 +1,31 @@
+package com.gl.hive.AuthenticationService.model.entity.listener;
+
+import com.gl.hive.AuthenticationService.model.entity.Departments;
+import com.gl.hive.AuthenticationService.model.entity.Roles;
+import com.gl.hive.AuthenticationService.model.entity.User;
+import com.gl.hive.shared.lib.model.enums.Department;
+import com.gl.hive.shared.lib.model.enums.Role;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The parts of a {@link User} that the user statistics are counted by.
+ */
+public record UserStatisticsSnapshot(boolean active, Set<Role> roles, Set<Department> departments) {
+
+    public static UserStatisticsSnapshot of(User user) {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        if (user.getRoles() != null)
+            for (Roles eachRole : user.getRoles())
+                if (eachRole.getRole() != null) roles.add(eachRole.getRole());
+
+        Set<Department> departments = EnumSet.noneOf(Department.class);
+        if (user.getDepartments() != null)
+            for (Departments eachDepartment : user.getDepartments())
+                if (eachDepartment.getDepartment() != null) departments.add(eachDepartment.getDepartment());
+
+        return new UserStatisticsSnapshot(user.isActive(), roles, departments);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.gl.hive.AuthenticationService.model.response;
+
+import com.gl.hive.shared.lib.model.enums.Department;
+import com.gl.hive.shared.lib.model.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserStatisticsResponse {
+
+    private long totalUsers;
+    private long activeUsers;
+    private long inactiveUsers;
+    private Map<Role, Long> usersByRole;
+    private Map<Department, Long> usersByDepartment;
+    private Instant lastReconciledAt;
+
+}
@@ -3,9 +3,17 @@ package com.gl.hive.AuthenticationService.repository;
 import com.gl.hive.AuthenticationService.model.entity.Departments;
 import com.gl.hive.shared.lib.model.enums.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface DepartmentsRepository extends JpaRepository<Departments, Long> {
     Optional<Departments> findByDepartment(Department department);
+
+    /**
+     * Returns every department as {@code [department, departmentId]} pairs without initializing the eager {@code users} relationship.
+     */
+    @Query("SELECT d.department, d.departmentId FROM Departments d")
+    List<Object[]> findAllDepartmentIds();
 } 
\ No newline at end of file
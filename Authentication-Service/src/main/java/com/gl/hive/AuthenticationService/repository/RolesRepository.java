@@ -3,11 +3,19 @@ package com.gl.hive.AuthenticationService.repository;
 import com.gl.hive.AuthenticationService.model.entity.Roles;
 import com.gl.hive.shared.lib.model.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface RolesRepository extends JpaRepository<Roles, Long> {
 
     Optional<Roles> findByRole(Role role);
 
+    /**
+     * Returns every role as {@code [role, roleId]} pairs without initializing the eager {@code users} relationship.
+     */
+    @Query("SELECT r.role, r.roleId FROM Roles r")
+    List<Object[]> findAllRoleIds();
+
 }
\ No newline at end of file
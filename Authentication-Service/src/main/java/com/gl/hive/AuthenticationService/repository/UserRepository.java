@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +26,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     List<User> findByActiveFalse();
 
+    long countByActiveTrue();
+
+    @Query("""
+            SELECT DISTINCT u FROM User u
+            LEFT JOIN FETCH u.roles
+            LEFT JOIN FETCH u.departments
+            WHERE u.userId IN :userIds
+            """)
+    List<User> findAllWithRolesAndDepartmentsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT r.role, COUNT(u) FROM User u JOIN u.roles r GROUP BY r.role")
+    List<Object[]> countUsersByRole();
+
+    @Query("SELECT d.department, COUNT(u) FROM User u JOIN u.departments d GROUP BY d.department")
+    List<Object[]> countUsersByDepartment();
+
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.gl.hive.AuthenticationService.service;
+
+import com.gl.hive.AuthenticationService.config.DataInitializer;
+import com.gl.hive.AuthenticationService.model.entity.Departments;
+import com.gl.hive.AuthenticationService.model.entity.Roles;
+import com.gl.hive.AuthenticationService.repository.DepartmentsRepository;
+import com.gl.hive.AuthenticationService.repository.RolesRepository;
+import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import com.gl.hive.shared.lib.model.dto.ReferenceDataDTO;
+import com.gl.hive.shared.lib.model.enums.Department;
+import com.gl.hive.shared.lib.model.enums.Role;
+import com.gl.hive.shared.lib.registry.ReferenceDataRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Holds the {@link Roles} and {@link Departments} seeded by {@link DataInitializer} as an immutable
+ * {@link ReferenceDataRegistry}, so resolving them doesn't hit the db on every request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataService {
+
+    private final RolesRepository rolesRepository;
+    private final DepartmentsRepository departmentsRepository;
+
+    private volatile ReferenceDataRegistry registry;
+
+    /**
+     * Loads the registry once the seeding {@code CommandLineRunner}s have finished.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadReferenceData() {
+        Map<Role, Long> roleIds = new EnumMap<>(Role.class);
+        rolesRepository.findAllRoleIds().forEach(row -> roleIds.put((Role) row[0], (Long) row[1]));
+
+        Map<Department, Long> departmentIds = new EnumMap<>(Department.class);
+        departmentsRepository.findAllDepartmentIds().forEach(row -> departmentIds.put((Department) row[0], (Long) row[1]));
+
+        registry = ReferenceDataRegistry.of(roleIds, departmentIds);
+        log.info("✅ Reference data loaded: {} roles, {} departments ✅", roleIds.size(), departmentIds.size());
+    }
+
+
+    public ReferenceDataDTO getReferenceDataDTO() {
+        return getRegistry().toDTO();
+    }
+
+
+    /**
+     * Returns a reference to the seeded role, only its ID and the enum value are populated.
+     *
+     * @throws ResourceNotFoundException if the role was not seeded
+     */
+    public Roles getRole(Role role) {
+        Long roleId = getRegistry().getRoleId(role);
+        if (roleId == null) {
+            log.error("😖 huh... it seems we don't have roles with {} in our db 😖", role);
+            throw new ResourceNotFoundException("Role with " + role + " role was not found", NOT_FOUND, NOT_FOUND.value());
+        }
+        return Roles.builder().roleId(roleId).role(role).build();
+    }
+
+
+    /**
+     * Returns a reference to the seeded department, only its ID and the enum value are populated.
+     *
+     * @throws ResourceNotFoundException if the department was not seeded
+     */
+    public Departments getDepartment(Department department) {
+        Long departmentId = getRegistry().getDepartmentId(department);
+        if (departmentId == null) {
+            log.error("😖 huh... it seems we don't have departments with {} in our db 😖", department);
+            throw new ResourceNotFoundException("Department with " + department + " department was not found", NOT_FOUND, NOT_FOUND.value());
+        }
+        return Departments.builder().departmentId(departmentId).department(department).build();
+    }
+
+
+    private ReferenceDataRegistry getRegistry() {
+        if (registry == null) {
+            synchronized (this) {
+                if (registry == null)
+                    loadReferenceData();
+            }
+        }
+        return registry;
+    }
+
+}
@@ -2,7 +2,6 @@ package com.gl.hive.AuthenticationService.service;
 
 import com.gl.hive.AuthenticationService.model.entity.Roles;
 import com.gl.hive.AuthenticationService.model.entity.User;
-import com.gl.hive.AuthenticationService.repository.RolesRepository;
 import com.gl.hive.AuthenticationService.repository.UserRepository;
 import com.gl.hive.shared.lib.model.enums.Role;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +19,7 @@ import java.util.Set;
 public class UserService {
     
     private final UserRepository userRepository;
-    private final RolesRepository roleRepository;
+    private final ReferenceDataService referenceDataService;
     private final PasswordEncoder passwordEncoder;
 
     public User createUser(User user) {
@@ -32,10 +31,7 @@ public class UserService {
                 user.setPassword(passwordEncoder.encode(user.getPassword()));
             }            // Set default role if none specified
             if (user.getRoles() == null || user.getRoles().isEmpty()) {
-                Optional<Roles> defaultRole = roleRepository.findByRole(Role.TEAM_MEMBER);
-                if (defaultRole.isPresent()) {
-                    user.setRoles(Set.of(defaultRole.get()));
-                }
+                user.setRoles(Set.of(referenceDataService.getRole(Role.TEAM_MEMBER)));
             }
               // Set default active status
             user.setActive(true);
@@ -66,18 +62,14 @@ public class UserService {
     }    public User updateUserRole(Long userId, String roleName) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found"));
-          // Try to find by enum value first
-        Optional<Roles> roleOpt = Optional.empty();
+          // Resolve the role from the reference data registry
+        Roles role;
         try {
-            Role roleEnum = Role.valueOf(roleName);
-            roleOpt = roleRepository.findByRole(roleEnum);
+            role = referenceDataService.getRole(Role.valueOf(roleName));
         } catch (IllegalArgumentException e) {
-            // Try to find by string
-            roleOpt = roleRepository.findByRole(Role.valueOf(roleName));
+            throw new RuntimeException("Role not found");
         }
         
-        Roles role = roleOpt.orElseThrow(() -> new RuntimeException("Role not found"));
-        
         user.setRoles(Set.of(role));
         return userRepository.save(user);
     }
@@ -0,0 +1,166 @@
+package com.gl.hive.AuthenticationService.service;
+
+import com.gl.hive.AuthenticationService.model.entity.listener.UserStatisticsListener;
+import com.gl.hive.AuthenticationService.model.entity.listener.UserStatisticsSnapshot;
+import com.gl.hive.AuthenticationService.model.response.UserStatisticsResponse;
+import com.gl.hive.AuthenticationService.repository.UserRepository;
+import com.gl.hive.shared.lib.model.enums.Department;
+import com.gl.hive.shared.lib.model.enums.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory user counters by role, department and active state for the admin dashboard.
+ * <p>
+ * The counters are updated on every user mutation by the {@link UserStatisticsListener} once the mutation is committed,
+ * and reconciled against the db periodically, so reading the statistics never scans the users table.
+ */
+@Slf4j
+@Service
+public class UserStatisticsService {
+
+    /* the key of the changes pending in the current transaction */
+    private static final Object PENDING_CHANGES = new Object();
+
+    private final UserRepository userRepository;
+
+    private final LongAdder totalUsers = new LongAdder();
+    private final LongAdder activeUsers = new LongAdder();
+    private final LongAdder[] usersByRole = newCounters(Role.values().length);
+    private final LongAdder[] usersByDepartment = newCounters(Department.values().length);
+
+    private volatile Instant lastReconciledAt;
+
+    // lazy because the UserRepository's EntityManagerFactory needs this bean for the entity listener
+    @Autowired
+    public UserStatisticsService(@Lazy UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Moves a user from its previous state to its current state in the counters. Inside a transaction the change is
+     * applied after the commit, so a rolled back mutation leaves the counters untouched.
+     *
+     * @param previous the state before the mutation, or {@code null} if the user was created
+     * @param current  the state after the mutation, or {@code null} if the user was removed
+     */
+    public void apply(UserStatisticsSnapshot previous, UserStatisticsSnapshot current) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            move(previous, current);
+            return;
+        }
+        pendingChanges().add(new UserStatisticsSnapshot[]{previous, current});
+    }
+
+
+    public UserStatisticsResponse getStatistics() {
+        long total = totalUsers.sum();
+        long active = activeUsers.sum();
+
+        Map<Role, Long> roles = new EnumMap<>(Role.class);
+        for (Role role : Role.values())
+            roles.put(role, usersByRole[role.ordinal()].sum());
+
+        Map<Department, Long> departments = new EnumMap<>(Department.class);
+        for (Department department : Department.values())
+            departments.put(department, usersByDepartment[department.ordinal()].sum());
+
+        return UserStatisticsResponse.builder()
+                .totalUsers(total)
+                .activeUsers(active)
+                .inactiveUsers(total - active)
+                .usersByRole(roles)
+                .usersByDepartment(departments)
+                .lastReconciledAt(lastReconciledAt)
+                .build();
+    }
+
+
+    /**
+     * Resets the counters to the actual counts in the db, correcting any drift from mutations that
+     * happened while reconciling or that bypassed the entity listener (i.e. bulk queries).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user.statistics.reconcile-interval:PT10M}", initialDelayString = "${user.statistics.reconcile-interval:PT10M}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        set(totalUsers, userRepository.count());
+        set(activeUsers, userRepository.countByActiveTrue());
+
+        long[] roleCounts = new long[usersByRole.length];
+        userRepository.countUsersByRole().forEach(row -> roleCounts[((Role) row[0]).ordinal()] = (Long) row[1]);
+        for (int i = 0; i < roleCounts.length; i++)
+            set(usersByRole[i], roleCounts[i]);
+
+        long[] departmentCounts = new long[usersByDepartment.length];
+        userRepository.countUsersByDepartment().forEach(row -> departmentCounts[((Department) row[0]).ordinal()] = (Long) row[1]);
+        for (int i = 0; i < departmentCounts.length; i++)
+            set(usersByDepartment[i], departmentCounts[i]);
+
+        lastReconciledAt = Instant.now();
+        log.info("✅ User statistics reconciled: {} users, {} active ✅", totalUsers.sum(), activeUsers.sum());
+    }
+
+
+    private void move(UserStatisticsSnapshot previous, UserStatisticsSnapshot current) {
+        if (previous != null) count(previous, -1);
+        if (current != null) count(current, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UserStatisticsSnapshot[]> pendingChanges() {
+        List<UserStatisticsSnapshot[]> pending = (List<UserStatisticsSnapshot[]>) TransactionSynchronizationManager.getResource(PENDING_CHANGES);
+        if (pending != null)
+            return pending;
+
+        List<UserStatisticsSnapshot[]> changes = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(PENDING_CHANGES, changes);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changes.forEach(change -> move(change[0], change[1]));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_CHANGES);
+            }
+        });
+        return changes;
+    }
+
+    private void count(UserStatisticsSnapshot snapshot, int delta) {
+        totalUsers.add(delta);
+        if (snapshot.active()) activeUsers.add(delta);
+        snapshot.roles().forEach(role -> usersByRole[role.ordinal()].add(delta));
+        snapshot.departments().forEach(department -> usersByDepartment[department.ordinal()].add(delta));
+    }
+
+    private static void set(LongAdder counter, long value) {
+        counter.reset();
+        counter.add(value);
+    }
+
+    private static LongAdder[] newCounters(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        for (int i = 0; i < size; i++)
+            counters[i] = new LongAdder();
+        return counters;
+    }
+
+}
@@ -6,11 +6,10 @@ import com.gl.hive.AuthenticationService.model.entity.User;
 import com.gl.hive.AuthenticationService.model.entity.VerificationToken;
 import com.gl.hive.AuthenticationService.model.request.AuthenticationRequest;
 import com.gl.hive.AuthenticationService.model.request.RegisterRequest;
-import com.gl.hive.AuthenticationService.repository.RolesRepository;
 import com.gl.hive.AuthenticationService.repository.UserRepository;
 import com.gl.hive.AuthenticationService.repository.VerificationTokenRepository;
-import com.gl.hive.AuthenticationService.repository.DepartmentsRepository;
 import com.gl.hive.AuthenticationService.model.entity.Departments;
+import com.gl.hive.AuthenticationService.service.ReferenceDataService;
 import com.gl.hive.AuthenticationService.util.AuthenticationUtils;
 import com.gl.hive.shared.lib.exceptions.AuthenticationFailedException;
 import com.gl.hive.shared.lib.exceptions.HiveException;
@@ -69,7 +68,6 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private String profilePicturesStorageDir;
 
     private final UserRepository userRepository;
-    private final RolesRepository rolesRepository;
     private final VerificationTokenRepository verificationTokenRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
@@ -78,7 +76,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final UserDetailsService userDetailsService;
     private final AuthenticationUtils authenticationUtils;
-    private final DepartmentsRepository departmentsRepository;
+    private final ReferenceDataService referenceDataService;
 
     /**
      * {@inheritDoc}
@@ -104,8 +102,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
         try {
             // find the TEAM_MEMBER role and assign it to newly created user as default role
-            Roles teamMemberRole = rolesRepository.findByRole(TEAM_MEMBER)
-                    .orElseThrow(() -> new ResourceNotFoundException("Role with TEAM_MEMBER role was not found", NOT_FOUND, NOT_FOUND.value()));
+            Roles teamMemberRole = referenceDataService.getRole(TEAM_MEMBER);
 
             // create a new user object and map the properties from the register request
             User user = modelMapper.map(registerRequest, User.class);
@@ -115,8 +112,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             // assign department
             if (registerRequest.getDepartment() != null && !registerRequest.getDepartment().isEmpty()) {
                 com.gl.hive.shared.lib.model.enums.Department departmentEnum = com.gl.hive.shared.lib.model.enums.Department.valueOf(registerRequest.getDepartment());
-                Departments departmentEntity = departmentsRepository.findByDepartment(departmentEnum)
-                        .orElseThrow(() -> new ResourceNotFoundException("Department not found", NOT_FOUND, NOT_FOUND.value()));
+                Departments departmentEntity = referenceDataService.getDepartment(departmentEnum);
                 user.getDepartments().add(departmentEntity);
             }
 
@@ -4,20 +4,23 @@ import com.gl.hive.AuthenticationService.config.jwt.JwtService;
 import com.gl.hive.AuthenticationService.model.entity.Roles;
 import com.gl.hive.AuthenticationService.model.entity.Departments;
 import com.gl.hive.AuthenticationService.model.entity.User;
-import com.gl.hive.AuthenticationService.repository.RolesRepository;
 import com.gl.hive.AuthenticationService.repository.UserRepository;
+import com.gl.hive.AuthenticationService.service.ReferenceDataService;
 import com.gl.hive.shared.lib.exceptions.AuthenticationFailedException;
 import com.gl.hive.shared.lib.exceptions.MissingAuthenticationHeaderException;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
 import com.gl.hive.shared.lib.model.dto.RolesDTO;
 import com.gl.hive.shared.lib.model.dto.DepartmentsDTO;
+import com.gl.hive.shared.lib.model.dto.ReferenceDataDTO;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static com.gl.hive.shared.lib.model.enums.Role.PROJECT_LEADER;
@@ -32,7 +35,7 @@ public class UserInterCommunicationService {
     @Value("${token.prefix}")
     private String TOKEN_PREFIX;
 
-    private final RolesRepository rolesRepository;
+    private final ReferenceDataService referenceDataService;
     private final UserRepository userRepository;
     private final JwtService jwtService;
 
@@ -41,7 +44,7 @@ public class UserInterCommunicationService {
         User user = getUserById(userId);
 
         // Check if user already has the PROJECT_LEADER role
-        if (user.getRoles().contains(projectLeaderRole)) {
+        if (user.getRoles().stream().anyMatch(roles -> roles.getRole() == PROJECT_LEADER)) {
             log.warn("User already has PROJECT_LEADER role - skipping");
             return;
         }
@@ -53,11 +56,11 @@ public class UserInterCommunicationService {
     }
 
     public Roles get_ProjectLeaderRole() {
-        return rolesRepository.findByRole(PROJECT_LEADER)
-                .orElseThrow(() -> {
-                    log.error("😖 huh... it seems we don't have roles with {} in our db 😖", PROJECT_LEADER);
-                    return new ResourceNotFoundException("Roles with the given roleName was not found", NOT_FOUND, NOT_FOUND.value());
-                });
+        return referenceDataService.getRole(PROJECT_LEADER);
+    }
+
+    public ReferenceDataDTO getReferenceData() {
+        return referenceDataService.getReferenceDataDTO();
     }
 
     public User getUserById(Long userId) {
@@ -82,8 +85,20 @@ public class UserInterCommunicationService {
     }
 
     public UserDTO getUserDTOById(Long userId) {
-        User user = getUserById(userId);
+        return toUserDTO(getUserById(userId));
+    }
+
+    public List<UserDTO> getUserDTOsByIds(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty())
+            return List.of();
+
+        return userRepository.findAllWithRolesAndDepartmentsByUserIdIn(userIds)
+                .stream()
+                .map(this::toUserDTO)
+                .toList();
+    }
 
+    private UserDTO toUserDTO(User user) {
         Set<RolesDTO> rolesDTO = new HashSet<>();
 
         for (Roles roles : user.getRoles()) {
@@ -0,0 +1,73 @@
+package com.gl.hive.AuthenticationService.service;
+
+import com.gl.hive.AuthenticationService.model.entity.listener.UserStatisticsSnapshot;
+import com.gl.hive.AuthenticationService.repository.UserRepository;
+import com.gl.hive.shared.lib.model.enums.Department;
+import com.gl.hive.shared.lib.model.enums.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class UserStatisticsServiceTest {
+
+    private final UserStatisticsService service = new UserStatisticsService(mock(UserRepository.class));
+
+    private final UserStatisticsSnapshot member = new UserStatisticsSnapshot(true, Set.of(Role.TEAM_MEMBER), Set.of(Department.IT));
+    private final UserStatisticsSnapshot leader = new UserStatisticsSnapshot(true, Set.of(Role.PROJECT_LEADER), Set.of(Department.IT));
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void appliesRightAwayWithoutATransaction() {
+        service.apply(null, member);
+
+        assertEquals(1, service.getStatistics().getTotalUsers());
+        assertEquals(1, service.getStatistics().getUsersByRole().get(Role.TEAM_MEMBER));
+    }
+
+    @Test
+    void appliesTheChangesOfACommittedTransactionAfterTheCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        service.apply(null, member);
+        service.apply(member, leader);
+
+        assertEquals(0, service.getStatistics().getTotalUsers());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(1, service.getStatistics().getTotalUsers());
+        assertEquals(0, service.getStatistics().getUsersByRole().get(Role.TEAM_MEMBER));
+        assertEquals(1, service.getStatistics().getUsersByRole().get(Role.PROJECT_LEADER));
+    }
+
+    @Test
+    void dropsTheChangesOfARolledBackTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        service.apply(null, member);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(0, service.getStatistics().getTotalUsers());
+        assertEquals(0, service.getStatistics().getUsersByDepartment().get(Department.IT));
+    }
+
+
+    private static void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED)
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+}
@@ -1,9 +1,14 @@
 package com.gl.hive.CommentService.config;
 
+import com.gl.hive.CommentService.feign.client.ProjectUtilFeignClient;
+import com.gl.hive.shared.lib.cache.ProjectAccessCache;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class CommentConfiguration {
 
@@ -12,4 +17,10 @@ public class CommentConfiguration {
         return new ModelMapper();
     }
 
+    @Bean
+    public ProjectAccessCache projectAccessCache(ProjectUtilFeignClient projectUtilFeignClient,
+                                                 @Value("${project.access-cache.ttl:PT30S}") Duration ttl) {
+        return new ProjectAccessCache(projectUtilFeignClient::getProjectAccess, ttl);
+    }
+
 }
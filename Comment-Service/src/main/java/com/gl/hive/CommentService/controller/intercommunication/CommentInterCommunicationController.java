@@ -2,19 +2,23 @@ package com.gl.hive.CommentService.controller.intercommunication;
 
 import com.gl.hive.CommentService.service.intercommunication.CommentInterCommunicationService;
 import com.gl.hive.shared.lib.model.dto.CommentDTO;
+import com.gl.hive.shared.lib.model.dto.ProjectCommentsDTO;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/inter-communication/comment")
 public class CommentInterCommunicationController {
 
+    private static final int MAX_COMMENTS_PER_PROJECT = 100;
+    private static final int MAX_PURGE_BATCH_SIZE = 1000;
+
     private final CommentInterCommunicationService interCommunicationService;
 
     /**
@@ -28,4 +32,61 @@ public class CommentInterCommunicationController {
         return interCommunicationService.getCommentListAsDTOs_ByProjectId(projectId);
     }
 
+
+
+    /**
+     * Retrieves the comments of many projects at once, grouped by project.
+     *
+     * @param projectIds the projects of which we want to retrieve the comments
+     * @param limit      the maximum number of the latest comments returned per project
+     * @param countOnly  whether to only return the number of comments of each project
+     * @return the comments as {@link ProjectCommentsDTO} keyed by projectId; every requested project has an entry
+     */
+    @GetMapping("/get-comments-as-dto-by-project-ids")
+    public Map<Long, ProjectCommentsDTO> getCommentsByProjectIds(
+            @RequestParam Set<Long> projectIds,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean countOnly
+    ) {
+        return interCommunicationService.getCommentsByProjectIds(projectIds, Math.min(limit, MAX_COMMENTS_PER_PROJECT), countOnly);
+    }
+
+
+
+    /**
+     * Deletes a batch of the comments of a deleted project; called repeatedly by the PROJECT-SERVICE until it returns 0.
+     *
+     * @param projectId the ID of the deleted project
+     * @param limit     the maximum number of comments to delete in this call
+     * @return the number of comments deleted
+     */
+    @DeleteMapping("/purge-by-project/{projectId}")
+    public int purgeCommentsOfProject(@PathVariable long projectId, @RequestParam(defaultValue = "500") int limit) {
+        return interCommunicationService.purgeCommentsOfProject(projectId, Math.max(1, Math.min(limit, MAX_PURGE_BATCH_SIZE)));
+    }
+
+
+
+    /**
+     * Evicts the cached access decisions of a project; called by the PROJECT-SERVICE when the access to the project changes.
+     *
+     * @param projectId the ID of the project whose access changed
+     */
+    @PostMapping("/evict-project-access/{projectId}")
+    public void evictProjectAccess(@PathVariable long projectId) {
+        interCommunicationService.evictProjectAccess(projectId);
+    }
+
+
+    /**
+     * Evicts the cached access decisions of many projects at once; called by the PROJECT-SERVICE when a bulk change,
+     * such as the end of the projects, changes the access to all of them.
+     *
+     * @param projectIds the IDs of the projects whose access changed
+     */
+    @PostMapping("/evict-projects-access")
+    public void evictProjectsAccess(@RequestBody Collection<Long> projectIds) {
+        projectIds.forEach(interCommunicationService::evictProjectAccess);
+    }
+
 }
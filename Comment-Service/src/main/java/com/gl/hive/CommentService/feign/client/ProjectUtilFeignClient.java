@@ -2,6 +2,7 @@ package com.gl.hive.CommentService.feign.client;
 
 import com.gl.hive.shared.lib.exceptions.NotLeaderOfProjectException;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import com.gl.hive.shared.lib.model.dto.ProjectAccessDTO;
 import com.gl.hive.shared.lib.model.dto.ProjectDTO;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -22,6 +23,10 @@ public interface ProjectUtilFeignClient {
     boolean isLeaderOrAdminOfProject(@RequestParam long projectId, @RequestParam long userId) throws NotLeaderOfProjectException, ResourceNotFoundException;
 
 
+    @GetMapping("/project-access")
+    ProjectAccessDTO getProjectAccess(@RequestParam long projectId, @RequestParam long userId);
+
+
     @GetMapping("/project-dto/{projectId}")
     ProjectDTO getProjectAsDTO(@PathVariable long projectId) throws ResourceNotFoundException;
 
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_comment_project_id", columnList = "project_id, commented_at"))
 public class Comment {
 
     @Id
@@ -21,6 +22,7 @@ public class Comment {
     @Column(length = 10_000)
     private String comment;
     @CreationTimestamp
+    @Column(name = "commented_at")
     private LocalDateTime commentedAt;
 
     /* relationships */
@@ -2,11 +2,42 @@ package com.gl.hive.CommentService.repository;
 
 import com.gl.hive.CommentService.model.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByCommentedOnProjectId(long commentedOnProjectId);
 
-}
\ No newline at end of file
+
+    /* deletes up to `limit` comments of the project; MySQL allows a LIMIT on a single-table DELETE */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM comment WHERE project_id = :projectId LIMIT :limit")
+    int deleteBatchByCommentedOnProjectId(long projectId, int limit);
+
+
+    @Query("""
+            SELECT c.commentedOnProjectId, COUNT(c) FROM Comment c
+            WHERE c.commentedOnProjectId IN :projectIds
+            GROUP BY c.commentedOnProjectId
+            """)
+    List<Object[]> countByCommentedOnProjectIdIn(Collection<Long> projectIds);
+
+
+    /* the latest `limit` comments of each of the projects */
+    @Query(nativeQuery = true, value = """
+            SELECT ranked.comment_id, ranked.comment, ranked.commented_at, ranked.project_id, ranked.task_id, ranked.user_id
+            FROM (
+                SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.project_id ORDER BY c.commented_at DESC, c.comment_id DESC) AS rn
+                FROM comment c
+                WHERE c.project_id IN (:projectIds)
+            ) ranked
+            WHERE ranked.rn <= :limit
+            ORDER BY ranked.project_id, ranked.rn
+            """)
+    List<Comment> findLatestByCommentedOnProjectIdIn(Collection<Long> projectIds, int limit);
+
+}
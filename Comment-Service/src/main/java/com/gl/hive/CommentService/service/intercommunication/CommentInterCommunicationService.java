@@ -2,13 +2,19 @@ package com.gl.hive.CommentService.service.intercommunication;
 
 import com.gl.hive.CommentService.model.entity.Comment;
 import com.gl.hive.CommentService.repository.CommentRepository;
+import com.gl.hive.shared.lib.cache.ProjectAccessCache;
 import com.gl.hive.shared.lib.model.dto.CommentDTO;
+import com.gl.hive.shared.lib.model.dto.ProjectCommentsDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Slf4j
@@ -18,6 +24,7 @@ public class CommentInterCommunicationService {
 
     private final CommentRepository commentRepository;
     private final ModelMapper modelMapper;
+    private final ProjectAccessCache projectAccessCache;
 
     public List<CommentDTO> getCommentListAsDTOs_ByProjectId(long projectId) {
         List<Comment> comments = commentRepository.findByCommentedOnProjectId(projectId);
@@ -35,4 +42,48 @@ public class CommentInterCommunicationService {
                 ).toList();
     }
 
+
+
+    public Map<Long, ProjectCommentsDTO> getCommentsByProjectIds(Collection<Long> projectIds, int limit, boolean countOnly) {
+        Map<Long, ProjectCommentsDTO> projectComments = new LinkedHashMap<>();
+        if (projectIds == null || projectIds.isEmpty())
+            return projectComments;
+
+        projectIds.forEach(projectId -> projectComments.put(projectId, ProjectCommentsDTO.builder().projectId(projectId).build()));
+
+        commentRepository.countByCommentedOnProjectIdIn(projectIds)
+                .forEach(row -> projectComments.get((Long) row[0]).setCommentCount((Long) row[1]));
+
+        if (countOnly || limit <= 0)
+            return projectComments;
+
+        commentRepository.findLatestByCommentedOnProjectIdIn(projectIds, limit)
+                .forEach(comment -> projectComments.get(comment.getCommentedOnProjectId())
+                        .getComments()
+                        .add(modelMapper.map(comment, CommentDTO.class))
+                );
+        return projectComments;
+    }
+
+
+
+    public void evictProjectAccess(long projectId) {
+        projectAccessCache.evictProject(projectId);
+    }
+
+
+
+    /**
+     * Deletes up to {@code limit} comments of the project in one short transaction.
+     *
+     * @return the number of comments deleted; 0 once the project has no comments left
+     */
+    @Transactional
+    public int purgeCommentsOfProject(long projectId, int limit) {
+        int deleted = commentRepository.deleteBatchByCommentedOnProjectId(projectId, limit);
+        if (deleted > 0)
+            log.info("🗑️ purged {} comments of the deleted project {{}} 🗑️", deleted, projectId);
+        return deleted;
+    }
+
 }
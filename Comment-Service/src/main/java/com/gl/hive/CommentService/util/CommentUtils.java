@@ -1,9 +1,10 @@
 package com.gl.hive.CommentService.util;
 
-import com.gl.hive.CommentService.feign.client.ProjectUtilFeignClient;
 import com.gl.hive.CommentService.feign.client.TaskUtilFeignClient;
+import com.gl.hive.shared.lib.cache.ProjectAccessCache;
 import com.gl.hive.shared.lib.exceptions.NotMemberOfProjectException;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import com.gl.hive.shared.lib.model.dto.ProjectAccessDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -19,7 +20,7 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 @RequiredArgsConstructor
 public class CommentUtils {
 
-    private final ProjectUtilFeignClient projectUtilFeignClient;
+    private final ProjectAccessCache projectAccessCache;
     private final TaskUtilFeignClient taskUtilFeignClient;
 
     /**
@@ -32,7 +33,8 @@ public class CommentUtils {
      */
     public void validateProject_UserMembershipToProject(long projectId, long userId) {
         // 1. Check whether project exists or throw a ResourceNotFoundException.
-        if (!projectUtilFeignClient.validateProjectExists(projectId)) {
+        ProjectAccessDTO access = projectAccessCache.get(projectId, userId);
+        if (!access.isProjectExists()) {
             log.error("😖 huh... it seems the project with {{}} wasn't found in the db 😖", projectId);
             throw new ResourceNotFoundException(
                     "😖 huh... it seems the project with 'projectID: " + projectId + "' wasn't found in the db 😖",
@@ -42,7 +44,7 @@ public class CommentUtils {
         }
 
         // 2. Check if the user is a member of the project or throw a NotMemberOfProjectException.
-        if (!projectUtilFeignClient.isMemberOfProject(projectId, userId)) {
+        if (!access.isMember()) {
             log.error("👥Ⓜ️ You: {} are not a member of THIS project: {} Ⓜ️👥", userId, projectId);
             throw new NotMemberOfProjectException(
                     "👥Ⓜ️ You are not a member of THIS project Ⓜ️👥",
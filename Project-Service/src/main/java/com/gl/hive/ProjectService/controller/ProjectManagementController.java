@@ -1,14 +1,23 @@
 package com.gl.hive.ProjectService.controller;
 
 import com.gl.hive.ProjectService.model.dto.ProjectMembersDto;
+import com.gl.hive.ProjectService.model.request.MembersRequest;
 import com.gl.hive.ProjectService.model.request.ProjectRequest;
+import com.gl.hive.ProjectService.model.response.BurndownResponse;
+import com.gl.hive.ProjectService.model.response.MembersResponse;
+import com.gl.hive.ProjectService.model.response.ProjectDeletionResponse;
 import com.gl.hive.ProjectService.service.interfaces.ProjectManagementService;
 import com.gl.hive.ProjectService.exceptions.ResourceNotFoundException;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 
+import java.time.LocalDate;
+
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.CREATED;
 
 /**
@@ -63,6 +72,32 @@ public class ProjectManagementController {
         return ResponseEntity.ok("User removed from project");
     }
 
+    /**
+     * Adds many members to the project in one request.
+     *
+     * @param projectId      the project to add the members to
+     * @param membersRequest the ids of the users to add
+     * @return the status of each of the users as {@link MembersResponse}
+     */
+    @PostMapping("/{projectId}/add-members")
+    @PreAuthorize("hasAnyRole('PROJECT_LEADER', 'ADMIN')")
+    public ResponseEntity<MembersResponse> addMembersToProject(@PathVariable Long projectId, @RequestBody @Valid MembersRequest membersRequest) {
+        return ResponseEntity.ok(projectManagementService.addMembersToProject(projectId, membersRequest.getUserIds()));
+    }
+
+    /**
+     * Removes many members from the project in one request.
+     *
+     * @param projectId      the project to remove the members from
+     * @param membersRequest the ids of the users to remove
+     * @return the status of each of the users as {@link MembersResponse}
+     */
+    @PostMapping("/{projectId}/remove-members")
+    @PreAuthorize("hasAnyRole('PROJECT_LEADER', 'ADMIN')")
+    public ResponseEntity<MembersResponse> removeMembersFromProject(@PathVariable Long projectId, @RequestBody @Valid MembersRequest membersRequest) {
+        return ResponseEntity.ok(projectManagementService.removeMembersFromProject(projectId, membersRequest.getUserIds()));
+    }
+
     @PutMapping("/update/{projectId}")
     @PreAuthorize("hasAnyRole('PROJECT_LEADER', 'ADMIN')")
     public ResponseEntity<String> updateProject(@PathVariable Long projectId, @RequestBody ProjectRequest projectRequest) {
@@ -70,11 +105,46 @@ public class ProjectManagementController {
         return ResponseEntity.ok("Project update endpoint called");
     }
 
+    /**
+     * Deletes the project. The project is hidden right away and its tasks, comments and members are purged in the background.
+     *
+     * @param projectId the project to delete
+     * @return the progress of the deletion as {@link ProjectDeletionResponse} and an HTTP status code of 202 (ACCEPTED)
+     */
     @DeleteMapping("/delete/{projectId}")
     @PreAuthorize("hasAnyRole('PROJECT_LEADER', 'ADMIN')")
-    public ResponseEntity<String> deleteProject(@PathVariable Long projectId) {
-        projectManagementService.deleteProject(projectId);
-        return ResponseEntity.ok("Project delete endpoint called");
+    public ResponseEntity<ProjectDeletionResponse> deleteProject(@PathVariable Long projectId) {
+        return new ResponseEntity<>(projectManagementService.deleteProject(projectId), ACCEPTED);
+    }
+
+    /**
+     * Returns the progress of the deletion of the project.
+     *
+     * @param projectId the deleted project
+     * @return the progress of the deletion as {@link ProjectDeletionResponse}
+     */
+    @GetMapping("/delete/{projectId}/status")
+    @PreAuthorize("hasAnyRole('PROJECT_LEADER', 'ADMIN')")
+    public ResponseEntity<ProjectDeletionResponse> getDeletionStatus(@PathVariable Long projectId) {
+        return ResponseEntity.ok(projectManagementService.getDeletionStatus(projectId));
+    }
+
+    /**
+     * Returns the daily burndown of the project (open, completed and overdue tasks per day).
+     *
+     * @param projectId the project
+     * @param from      the first day (ISO date), defaults to 30 days before {@code to}
+     * @param to        the last day (ISO date), defaults to today
+     * @return the burndown in columns as {@link BurndownResponse}
+     */
+    @GetMapping("/{projectId}/burndown")
+    @PreAuthorize("hasAnyRole('PROJECT_LEADER', 'ADMIN')")
+    public ResponseEntity<BurndownResponse> getBurndown(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(projectManagementService.getBurndown(projectId, from, to));
     }
 
 }
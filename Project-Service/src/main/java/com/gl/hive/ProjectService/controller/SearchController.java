@@ -1,13 +1,12 @@
 package com.gl.hive.ProjectService.controller;
 
+import com.gl.hive.ProjectService.model.response.SearchPageResponse;
 import com.gl.hive.ProjectService.model.response.SearchResponse;
 import com.gl.hive.ProjectService.service.interfaces.SearchProjectService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -21,26 +20,47 @@ public class SearchController {
 
     private final SearchProjectService searchProjectService;
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     /**
-     * Returns a list of all projects.
+     * Returns a page of the projects visible to the current user.
+     * When there are more projects, the cursor of the next page is returned in the {@value #NEXT_CURSOR_HEADER} header.
      *
+     * @param after     the projectId of the last project of the previous page
+     * @param size      the maximum number of projects in the page
+     * @param direction the sort direction of the projectId
      * @return a ResponseEntity containing a list of SearchResponse objects
      */
     @GetMapping
-    public ResponseEntity<List<SearchResponse>> searchResultForAllProjects() {
-        return ResponseEntity.ok(searchProjectService.listAllProjects());
+    public ResponseEntity<List<SearchResponse>> searchResultForAllProjects(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "size", defaultValue = "100") int size,
+            @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction
+    ) {
+        SearchPageResponse page = searchProjectService.listAllProjects(after, size, direction);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null)
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        return response.body(page.getProjects());
     }
 
 
     /**
-     * Returns a list of projects that match the provided projectOrGroupName.
+     * Returns a page of the projects whose name or description match the provided terms, best matches first.
      *
-     * @param projectName the name of the project to search for
+     * @param projectName the terms to search for
+     * @param page        the zero-based page number
+     * @param size        the maximum number of projects in the page
      * @return a ResponseEntity containing a list of SearchResponse objects
      */
     @GetMapping("/{projectName}")
-    public ResponseEntity<List<SearchResponse>> searchForAProjectOrGroup(@PathVariable String projectName) {
-        return ResponseEntity.ok(searchProjectService.searchForProject(projectName));
+    public ResponseEntity<List<SearchResponse>> searchForAProjectOrGroup(
+            @PathVariable String projectName,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(searchProjectService.searchForProject(projectName, page, size));
     }
 
 }
@@ -1,15 +1,30 @@
 package com.gl.hive.ProjectService.controller.intercommunication;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gl.hive.ProjectService.service.intercommunication.ProjectInterCommunicationService;
+import com.gl.hive.shared.lib.exceptions.HiveException;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import com.gl.hive.shared.lib.model.dto.ProjectAccessDTO;
 import com.gl.hive.shared.lib.model.dto.ProjectDTO;
+import com.gl.hive.shared.lib.model.dto.TaskEventDTO;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 import com.gl.hive.shared.lib.model.enums.Role;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Set;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 
 /**
  * A controller class for intercommunicating between services.
@@ -20,7 +35,10 @@ import java.util.List;
 @RequestMapping("/api/v1/project/inter-communication")
 public class ProjectInterCommunicationController {
 
+    private static final int MAX_PROJECT_DTOS = 1000;
+
     private final ProjectInterCommunicationService interCommunicationService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Checks whether the provided user is a member of the project.
@@ -37,6 +55,21 @@ public class ProjectInterCommunicationController {
     }
 
 
+    /**
+     * Checks which of the provided users are members of the project, with one call for all of them.
+     *
+     * @param projectId the project
+     * @param userIds   the users
+     * @return the IDs of the users that are members of the project
+     * @throws ResourceNotFoundException if the project is not found
+     */
+    @PostMapping("/members-of-project/{projectId}")
+    public List<Long> filterMembersOfProject(@PathVariable long projectId, @RequestBody Collection<Long> userIds)
+            throws ResourceNotFoundException {
+        return interCommunicationService.filterMembersOfProject(projectId, userIds);
+    }
+
+
     /**
      * Checks whether the provided user is a {@link Role#PROJECT_LEADER} or {@link Role#ADMIN}.
      *
@@ -52,6 +85,20 @@ public class ProjectInterCommunicationController {
     }
 
 
+    /**
+     * Returns the whole authorization decision of the user on the project in one call:
+     * whether the project exists and is active, and whether the user is a member and the leader/admin of it.
+     *
+     * @param projectId the project
+     * @param userId    the user
+     * @return the decision as {@link ProjectAccessDTO}; an unknown project is reported, not thrown
+     */
+    @GetMapping("/project-access")
+    public ProjectAccessDTO getProjectAccess(@RequestParam long projectId, @RequestParam long userId) {
+        return interCommunicationService.getProjectAccess(projectId, userId);
+    }
+
+
     /**
      * Find a project by its ID and then return it as a {@link ProjectDTO}.
      *
@@ -66,6 +113,33 @@ public class ProjectInterCommunicationController {
     }
 
 
+    /**
+     * Returns many projects as {@link ProjectDTO} in one call, so a caller resolves all the projects of a result set
+     * with one request. The ETag is the SHA-256 of the serialized body, and a matching {@code If-None-Match} is answered
+     * with 304 (NOT MODIFIED) and no body.
+     *
+     * @param projectIds the IDs of the projects, at most 1000; unknown or deleted projects are left out
+     * @param fields     the fields to fill in besides the projectId (e.g. {@code projectName}), all of them if omitted
+     * @return the found projects in the order of the IDs
+     */
+    @GetMapping("/project-dtos")
+    public ResponseEntity<List<ProjectDTO>> getProjectDTOs(
+            @RequestParam Collection<Long> projectIds,
+            @RequestParam(required = false) Set<String> fields,
+            WebRequest webRequest
+    ) throws JsonProcessingException, NoSuchAlgorithmException {
+        if (projectIds.size() > MAX_PROJECT_DTOS)
+            throw new HiveException("At most " + MAX_PROJECT_DTOS + " projects can be requested at once", BAD_REQUEST, BAD_REQUEST.value());
+
+        List<ProjectDTO> projects = interCommunicationService.getProjectDTOs(projectIds, fields != null ? fields : Set.of());
+        byte[] body = objectMapper.writeValueAsBytes(projects);
+        String eTag = "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body)) + "\"";
+        if (webRequest.checkNotModified(eTag))
+            return ResponseEntity.status(NOT_MODIFIED).eTag(eTag).build();
+        return ResponseEntity.ok().eTag(eTag).body(projects);
+    }
+
+
     /**
      * Retrieves a set of users associated with a task and a project.
      *
@@ -90,16 +164,37 @@ public class ProjectInterCommunicationController {
         return interCommunicationService.validateProjectExists(projectId);
     }
 
+    /**
+     * Applies a task lifecycle event of the TASK-SERVICE to the task counters and progress of the project.
+     *
+     * @param event the event carrying the change to the counters
+     */
+    @PostMapping("/task-events")
+    public void applyTaskEvent(@RequestBody TaskEventDTO event) {
+        interCommunicationService.applyTaskEvent(event);
+    }
+
     @GetMapping("/active-project/{userId}")
     public ProjectDTO getActiveProjectForUser(@PathVariable Long userId) {
         // Implementation will be added in the service
         return interCommunicationService.getActiveProjectForUser(userId);
     }
 
+    /**
+     * Returns a page of the completed projects of the user, the most recently completed first.
+     *
+     * @param userId the user
+     * @param page   the page number, starting at 0
+     * @param size   the page size, at most 100
+     * @return the completed projects as {@link ProjectDTO}
+     */
     @GetMapping("/completed-projects/{userId}")
-    public List<ProjectDTO> getCompletedProjectsForUser(@PathVariable Long userId) {
-        // Implementation will be added in the service
-        return interCommunicationService.getCompletedProjectsForUser(userId);
+    public List<ProjectDTO> getCompletedProjectsForUser(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + ProjectInterCommunicationService.DEFAULT_COMPLETED_PAGE_SIZE) int size
+    ) {
+        return interCommunicationService.getCompletedProjectsForUser(userId, page, size);
     }
 
 }
@@ -6,6 +6,7 @@ import com.gl.hive.shared.lib.model.response.ErrorResponse;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -101,6 +102,21 @@ public class ProjectExceptionHandler extends ResponseEntityExceptionHandler {
     }
 
 
+    /* a deadlock or a lock wait timeout between concurrent membership changes; the request can be retried */
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> pessimisticLockingFailureExceptionHandler(PessimisticLockingFailureException e) {
+        log.error("❌🔐 PessimisticLockingFailureException triggered - Cause ❌🔐: {{}}", e.getMessage());
+        e.printStackTrace();
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorMessage("The project was modified concurrently, try again")
+                .httpStatus(HttpStatus.CONFLICT)
+                .statusCode(HttpStatus.CONFLICT.value())
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+
     @ExceptionHandler(AuthenticationFailedException.class)
     public ResponseEntity<ErrorResponse> authenticationFailedExceptionHandler(AuthenticationFailedException e) {
         log.error("❌🔒 AuthenticationFailedException triggered - Cause ❌🔒: {{}}", e.getMessage());
@@ -1,10 +1,14 @@
 package com.gl.hive.ProjectService.feign.client;
 
+import com.gl.hive.shared.lib.model.dto.ReferenceDataDTO;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
+import java.util.List;
+
 @FeignClient(name = "4-AUTHENTICATION-SERVICE", path = "/api/v1/inter-communication", configuration = FeignClientConfiguration.class)
 public interface AuthUserFeignClient {
 
@@ -24,10 +28,18 @@ public interface AuthUserFeignClient {
     Long getProjectLeaderRoleId();
 
 
+    @GetMapping("/reference-data")
+    ReferenceDataDTO getReferenceData();
+
+
     @GetMapping("/get-user/{userId}")
     UserDTO getUserDTOById(@PathVariable Long userId);
 
 
+    @PostMapping("/get-users")
+    List<UserDTO> getUserDTOsByIds(@RequestBody Collection<Long> userIds);
+
+
     @PostMapping("/save-user-as-dto")
     UserDTO saveUserAndReturnSavedUserAsDTO(@RequestBody UserDTO userDTO);
 
@@ -1,11 +1,18 @@
 package com.gl.hive.ProjectService.feign.client;
 
 import com.gl.hive.shared.lib.model.dto.CommentDTO;
+import com.gl.hive.shared.lib.model.dto.ProjectCommentsDTO;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "7-COMMENT-SERVICE", path = "/api/v1/inter-communication/comment", configuration = FeignClientConfiguration.class)
 public interface CommentFeignClient {
@@ -13,4 +20,18 @@ public interface CommentFeignClient {
     @GetMapping("/get-comments-as-dto-by-project-id/{projectId}")
     List<CommentDTO> getCommentListAsDTOs_ByProjectId(@PathVariable long projectId);
 
+    @GetMapping("/get-comments-as-dto-by-project-ids")
+    Map<Long, ProjectCommentsDTO> getCommentsByProjectIds(@RequestParam Collection<Long> projectIds,
+                                                          @RequestParam int limit,
+                                                          @RequestParam boolean countOnly);
+
+    @PostMapping("/evict-project-access/{projectId}")
+    void evictProjectAccess(@PathVariable long projectId);
+
+    @PostMapping("/evict-projects-access")
+    void evictProjectsAccess(@RequestBody Collection<Long> projectIds);
+
+    @DeleteMapping("/purge-by-project/{projectId}")
+    int purgeCommentsOfProject(@PathVariable long projectId, @RequestParam int limit);
+
 }
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Configuration
 public class FeignClientConfiguration {
@@ -18,7 +19,8 @@ public class FeignClientConfiguration {
     @Bean
     public RequestInterceptor requestInterceptor(@Autowired(required = false) HttpServletRequest request) {
         return template -> {
-            if (request != null) {
+            // the request is a request-scoped proxy; outside a request (e.g. in scheduled jobs) there is nothing to forward
+            if (request != null && RequestContextHolder.getRequestAttributes() != null) {
                 String authHeader = request.getHeader("Authorization");
                 if (authHeader != null) {
                     template.header("Authorization", authHeader);
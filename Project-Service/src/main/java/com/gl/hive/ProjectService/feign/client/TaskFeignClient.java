@@ -1,11 +1,19 @@
 package com.gl.hive.ProjectService.feign.client;
 
+import com.gl.hive.shared.lib.model.dto.TaskCountsDTO;
 import com.gl.hive.shared.lib.model.dto.TaskDTO;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "6-TASK-SERVICE/api/v1/task/inter-communication", configuration = FeignClientConfiguration.class)
 public interface TaskFeignClient {
@@ -16,4 +24,22 @@ public interface TaskFeignClient {
     @GetMapping("/find-by-project/{projectId}")
     List<TaskDTO> findTasksByProjectId(@PathVariable long projectId);
 
+    /* a keyset page of the tasks of many projects; the cursor of the next page is in the X-Next-Cursor header */
+    @GetMapping("/find-by-projects")
+    ResponseEntity<List<TaskDTO>> findTasksByProjectIds(@RequestParam Collection<Long> projectIds,
+                                                        @RequestParam(required = false) Long after,
+                                                        @RequestParam int size);
+
+    @PostMapping("/evict-project-access/{projectId}")
+    void evictProjectAccess(@PathVariable long projectId);
+
+    @PostMapping("/evict-projects-access")
+    void evictProjectsAccess(@RequestBody Collection<Long> projectIds);
+
+    @DeleteMapping("/purge-by-project/{projectId}")
+    int purgeTasksOfProject(@PathVariable long projectId, @RequestParam int limit);
+
+    @GetMapping("/task-counts")
+    Map<Long, TaskCountsDTO> getTaskCounts(@RequestParam Collection<Long> projectIds);
+
 }
@@ -1,14 +1,19 @@
 package com.gl.hive.ProjectService.model.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Where;
 import jakarta.persistence.Transient;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Getter
@@ -17,10 +22,16 @@ import java.time.LocalTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_project_leader_id", columnList = "leader_id, project_id"),
+        @Index(name = "idx_project_end_date", columnList = "end_date, project_id")
+})
+@Where(clause = "deleted_at IS NULL")
 public class Project {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "project_id")
     private Long projectId;
 
     private String projectName;
@@ -33,10 +44,20 @@ public class Project {
 
     private int progress = 0;
 
+    /* task counters maintained from the events of the TASK-SERVICE; cancelled tasks are not counted */
+    private int taskCount;
+    private int completedTaskCount;
+    private int overdueTaskCount;
+
     private LocalDate startDate;
+    @Column(name = "end_date")
     private LocalDate endDate;
 
+    /* set when the project is deleted; tombstoned projects are hidden from every read until they are purged */
+    private LocalDateTime deletedAt;
+
     /* relationships */
+    @Column(name = "leader_id")
     private Long leaderId;
     /* end of relationships */
 
@@ -0,0 +1,45 @@
+package com.gl.hive.ProjectService.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * One day of the burndown of a project: the task counters of the project at the end of the day.
+ * <p>
+ * The rows are fixed-width and keyed by {@code (project_id, snapshot_date)}, so the days of a project are stored
+ * next to each other in the primary key and a date range is read with a single index range scan.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "project_burndown")
+@IdClass(ProjectBurndown.Key.class)
+public class ProjectBurndown {
+
+    @Id
+    private Long projectId;
+
+    @Id
+    private LocalDate snapshotDate;
+
+    private int openCount;
+    private int completedCount;
+    private int overdueCount;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private LocalDate snapshotDate;
+    }
+
+}
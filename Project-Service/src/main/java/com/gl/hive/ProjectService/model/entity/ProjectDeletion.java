@@ -0,0 +1,58 @@
+package com.gl.hive.ProjectService.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The progress of the deletion of a project. The project is tombstoned when this is created, and the dependents are
+ * purged stage by stage; the counters and the stage are saved after every batch, so a restarted instance resumes
+ * the deletion where it stopped. A deletion that keeps failing is parked as {@link Stage#FAILED}, with the stage it
+ * stopped at kept in {@code failedStage}.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "project_deletion", indexes = @Index(name = "idx_project_deletion_stage", columnList = "stage, requested_at"))
+public class ProjectDeletion {
+
+    public enum Stage {
+        TASKS,
+        COMMENTS,
+        MEMBERS,
+        PROJECT,
+        DONE,
+        FAILED
+    }
+
+    @Id
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    private Stage stage;
+
+    private Long requestedByUserId;
+    @Column(name = "requested_at")
+    private LocalDateTime requestedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    private long purgedTasks;
+    private long purgedComments;
+    private long purgedMembers;
+
+    private int failedAttempts;
+    @Enumerated(EnumType.STRING)
+    private Stage failedStage;
+    @Column(length = 1_000)
+    private String lastError;
+
+    /* guards against two instances working on the same deletion */
+    @Version
+    private Long version;
+
+}
@@ -14,7 +14,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "project_members")
+@Table(
+        name = "project_members",
+        indexes = @Index(name = "idx_project_members_user_id", columnList = "user_id, project_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_project_members_project_user_active", columnNames = {"project_id", "user_id", "active"})
+)
 public class ProjectMembers {
 
     @Id
@@ -22,9 +26,10 @@ public class ProjectMembers {
     private Long projectMemberId;
 
     /* relationships */
+    @Column(name = "user_id")
     private Long userId;
 
-    @ManyToOne(cascade = CascadeType.ALL)
+    @ManyToOne
     @JoinColumn(name = "project_id")
     @JsonIgnore
     private Project project;
@@ -0,0 +1,22 @@
+package com.gl.hive.ProjectService.model.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MembersRequest {
+
+    @NotNull
+    @Builder.Default
+    private List<Long> userIds = new ArrayList<>();
+
+}
@@ -0,0 +1,28 @@
+package com.gl.hive.ProjectService.model.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The burndown of a project in columns: the i-th element of every array belongs to the i-th day.
+ * Days without a recorded snapshot are left out.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BurndownResponse {
+
+    private Long projectId;
+    private LocalDate from;
+    private LocalDate to;
+
+    private List<LocalDate> days;
+    private int[] open;
+    private int[] completed;
+    private int[] overdue;
+
+}
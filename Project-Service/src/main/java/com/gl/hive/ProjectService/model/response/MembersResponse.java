@@ -0,0 +1,24 @@
+package com.gl.hive.ProjectService.model.response;
+
+import lombok.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The result of a bulk membership change: the number of users changed and a status message per requested user.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MembersResponse {
+
+    private int succeeded;
+    private int failed;
+
+    @Builder.Default
+    private Map<Long, String> results = new LinkedHashMap<>();
+
+}
@@ -0,0 +1,33 @@
+package com.gl.hive.ProjectService.model.response;
+
+import com.gl.hive.ProjectService.model.entity.ProjectDeletion;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The progress of the deletion of a project.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProjectDeletionResponse {
+
+    private Long projectId;
+    private ProjectDeletion.Stage stage;
+
+    private LocalDateTime requestedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    private long purgedTasks;
+    private long purgedComments;
+    private long purgedMembers;
+
+    private int failedAttempts;
+    private ProjectDeletion.Stage failedStage;
+    private String lastError;
+
+}
@@ -0,0 +1,21 @@
+package com.gl.hive.ProjectService.model.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A keyset page of projects. {@code nextCursor} is the projectId to pass as {@code after} for the next page,
+ * or {@code null} if this is the last page.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SearchPageResponse {
+
+    private List<SearchResponse> projects;
+    private Long nextCursor;
+
+}
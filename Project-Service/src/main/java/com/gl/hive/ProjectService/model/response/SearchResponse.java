@@ -23,6 +23,7 @@ public class SearchResponse {
 
     private ProjectMembersDto members;
     private List<CommentDTO> commentDTOs;
+    private long commentCount;
     private int progress;
 
     private LocalDate startDate;
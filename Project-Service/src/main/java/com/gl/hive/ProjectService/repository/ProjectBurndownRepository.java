@@ -0,0 +1,41 @@
+package com.gl.hive.ProjectService.repository;
+
+import com.gl.hive.ProjectService.model.entity.ProjectBurndown;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ProjectBurndownRepository extends JpaRepository<ProjectBurndown, ProjectBurndown.Key> {
+
+    List<ProjectBurndown> findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDate(Long projectId, LocalDate from, LocalDate to);
+
+
+    /**
+     * Records the current task counters of every project as the burndown of the given day, in one statement.
+     * Running it again on the same day overwrites that day only; the earlier days are never touched.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO project_burndown (project_id, snapshot_date, open_count, completed_count, overdue_count)
+            SELECT p.project_id, :day, p.task_count - p.completed_task_count, p.completed_task_count, p.overdue_task_count
+            FROM project p
+            WHERE p.deleted_at IS NULL
+            ON DUPLICATE KEY UPDATE
+                open_count = VALUES(open_count),
+                completed_count = VALUES(completed_count),
+                overdue_count = VALUES(overdue_count)
+            """, nativeQuery = true)
+    int recordDay(LocalDate day);
+
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM project_burndown WHERE project_id = :projectId LIMIT :limit")
+    int purgeBatchByProjectId(Long projectId, int limit);
+
+}
@@ -0,0 +1,13 @@
+package com.gl.hive.ProjectService.repository;
+
+import com.gl.hive.ProjectService.model.entity.ProjectDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectDeletionRepository extends JpaRepository<ProjectDeletion, Long> {
+
+    List<ProjectDeletion> findByStageNotInOrderByRequestedAt(Collection<ProjectDeletion.Stage> stages);
+
+}
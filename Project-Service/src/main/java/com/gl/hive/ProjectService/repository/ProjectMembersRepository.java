@@ -2,9 +2,16 @@ package com.gl.hive.ProjectService.repository;
 
 import com.gl.hive.ProjectService.model.entity.Project;
 import com.gl.hive.ProjectService.model.entity.ProjectMembers;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,8 +32,68 @@ public interface ProjectMembersRepository extends JpaRepository<ProjectMembers,
     Optional<ProjectMembers> findByProject_ProjectNameAndUserId(String projectName, Long userId);
 
     List<ProjectMembers> findByUserIdAndActiveTrue(Long userId);
+
+    /* locks the active assignments of the user (or the index gap when there is none) to serialize assignments of the same user */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pm FROM ProjectMembers pm WHERE pm.userId =:userId AND pm.active = true")
+    List<ProjectMembers> findByUserIdAndActiveTrue_ForUpdate(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pm FROM ProjectMembers pm WHERE pm.userId IN :userIds AND pm.active = true")
+    List<ProjectMembers> findByUserIdInAndActiveTrue_ForUpdate(Collection<Long> userIds);
+
+    boolean existsByProject_ProjectIdAndUserId(Long projectId, Long userId);
+
+    @Query("SELECT pm.userId FROM ProjectMembers pm WHERE pm.project.projectId =:projectId AND pm.userId IN :userIds")
+    List<Long> findUserIdsByProjectIdAndUserIdIn(Long projectId, Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE ProjectMembers pm SET pm.active = false, pm.completedAt =:completedAt WHERE pm.projectMemberId IN :projectMemberIds")
+    int deactivateAll(Collection<Long> projectMemberIds, LocalDateTime completedAt);
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM project_members WHERE project_id = :projectId LIMIT :limit")
+    int purgeBatchByProjectId(Long projectId, int limit);
+
+    @Modifying
+    @Query("UPDATE ProjectMembers pm SET pm.active = false, pm.completedAt =:completedAt WHERE pm.project.projectId IN :projectIds AND pm.active = true")
+    int deactivateByProjectIdIn(Collection<Long> projectIds, LocalDateTime completedAt);
+
+    @Modifying
+    @Query("DELETE FROM ProjectMembers pm WHERE pm.project.projectId =:projectId AND pm.userId IN :userIds")
+    int deleteByProjectIdAndUserIdIn(Long projectId, Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM ProjectMembers pm WHERE pm.project.projectId =:projectId AND pm.userId =:userId")
+    int deleteByProjectIdAndUserId(Long projectId, Long userId);
+
     List<ProjectMembers> findByUserIdAndActiveFalse(Long userId);
     List<ProjectMembers> findByUserId(Long userId);
 
+    /* the projects of the user read in the same query as the memberships, instead of one query per membership */
+    @Query("""
+            SELECT p FROM ProjectMembers pm JOIN pm.project p
+            WHERE pm.userId =:userId AND pm.active = true
+            ORDER BY pm.assignedAt DESC
+            """)
+    List<Project> findActiveProjectsByUserId(Long userId, Pageable pageable);
+
+    @Query("""
+            SELECT p FROM ProjectMembers pm JOIN pm.project p
+            WHERE pm.userId =:userId AND pm.active = false
+            ORDER BY pm.completedAt DESC, p.projectId DESC
+            """)
+    List<Project> findCompletedProjectsByUserId(Long userId, Pageable pageable);
+
     List<ProjectMembers> findByProjectAndActiveTrue(Project project);
+
+    @Query("SELECT pm.project.projectId, pm.userId FROM ProjectMembers pm")
+    List<Object[]> findAllProjectAndUserIds();
+
+    @Query("""
+            SELECT pm.project.projectId, pm.userId FROM ProjectMembers pm
+            WHERE pm.project.projectId IN :projectIds AND pm.active = true
+            """)
+    List<Object[]> findActiveProjectAndUserIdsByProjectIdIn(Collection<Long> projectIds);
 }
\ No newline at end of file
@@ -1,16 +1,128 @@
 package com.gl.hive.ProjectService.repository;
 
 import com.gl.hive.ProjectService.model.entity.Project;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
-    List<Project> findByProjectNameContaining(String projectName);
+    Optional<Project> findByProjectNameAllIgnoreCase(String projectName);
 
 
-    Optional<Project> findByProjectNameAllIgnoreCase(String projectName);
+    /* locks the row of the project, to serialize the membership changes of the project */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.projectId =:projectId")
+    Optional<Project> findByIdForUpdate(Long projectId);
+
+
+    @Modifying
+    @Query("UPDATE Project p SET p.memberCount = p.memberCount + :count WHERE p.projectId =:projectId")
+    int incrementMemberCount(Long projectId, int count);
+
+
+    @Modifying
+    @Query("""
+            UPDATE Project p SET p.memberCount = CASE WHEN p.memberCount > :count THEN p.memberCount - :count ELSE 0 END
+            WHERE p.projectId =:projectId
+            """)
+    int decrementMemberCount(Long projectId, int count);
+
+
+    /**
+     * Applies the deltas of a task event to the task counters of the project and recomputes its progress.
+     * The progress is assigned first since MySQL evaluates the assignments of an UPDATE from left to right.
+     * The counters are clamped at 0: a task can turn overdue by time alone without an event, so its completion
+     * may take back an overdue count that was never added. The reconciliation corrects the counts afterward.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Project p SET
+                p.progress = CASE WHEN p.taskCount + :total > 0
+                             THEN ((p.completedTaskCount + :completed) * 100) / (p.taskCount + :total) ELSE 0 END,
+                p.taskCount = CASE WHEN p.taskCount + :total > 0 THEN p.taskCount + :total ELSE 0 END,
+                p.completedTaskCount = CASE WHEN p.completedTaskCount + :completed > 0 THEN p.completedTaskCount + :completed ELSE 0 END,
+                p.overdueTaskCount = CASE WHEN p.overdueTaskCount + :overdue > 0 THEN p.overdueTaskCount + :overdue ELSE 0 END
+            WHERE p.projectId =:projectId
+            """)
+    int applyTaskDelta(long projectId, int total, int completed, int overdue);
+
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE Project p SET
+                p.taskCount = :total,
+                p.completedTaskCount = :completed,
+                p.overdueTaskCount = :overdue,
+                p.progress = :progress
+            WHERE p.projectId =:projectId
+            """)
+    int setTaskCounts(long projectId, int total, int completed, int overdue, int progress);
+
+
+    @Query("SELECT p.projectId, p.startDate, p.endDate FROM Project p")
+    List<Object[]> findAllProjectIdsAndDates();
+
+
+    /* keyset pagination: the cursor is the last projectId of the previous page, the page size and sort come from the pageable */
+    List<Project> findByProjectIdGreaterThan(long cursor, Pageable pageable);
+
+    List<Project> findByProjectIdLessThan(long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.deletedAt =:deletedAt WHERE p.projectId =:projectId AND p.deletedAt IS NULL")
+    int markDeleted(Long projectId, LocalDateTime deletedAt);
+
+
+    /* native, since the tombstoned project is hidden from the JPQL queries */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM project WHERE project_id = :projectId AND deleted_at IS NOT NULL")
+    int purgeById(Long projectId);
+
+
+    @Query("SELECT p.projectId FROM Project p WHERE p.projectId >:cursor ORDER BY p.projectId")
+    List<Long> findProjectIdsAfter(long cursor, Pageable pageable);
+
+    /**
+     * Finds the projects that ended before the given day and still have active members, in keyset order.
+     */
+    @Query("""
+            SELECT p.projectId FROM Project p
+            WHERE p.endDate <:today AND p.projectId >:cursor
+            AND EXISTS (SELECT pm FROM ProjectMembers pm WHERE pm.project = p AND pm.active = true)
+            ORDER BY p.projectId
+            """)
+    List<Long> findEndedProjectIdsWithActiveMembers(LocalDate today, long cursor, Pageable pageable);
+
+
+    List<Project> findByLeaderIdAndProjectIdGreaterThan(Long leaderId, long cursor, Pageable pageable);
+
+    List<Project> findByLeaderIdAndProjectIdLessThan(Long leaderId, long cursor, Pageable pageable);
+
+
+    @Query("""
+            SELECT p FROM Project p
+            WHERE p.projectId >:cursor
+            AND EXISTS (SELECT pm FROM ProjectMembers pm WHERE pm.project = p AND pm.userId =:userId)
+            """)
+    List<Project> findByMemberIdAndProjectIdGreaterThan(Long userId, long cursor, Pageable pageable);
+
+    @Query("""
+            SELECT p FROM Project p
+            WHERE p.projectId <:cursor
+            AND EXISTS (SELECT pm FROM ProjectMembers pm WHERE pm.project = p AND pm.userId =:userId)
+            """)
+    List<Project> findByMemberIdAndProjectIdLessThan(Long userId, long cursor, Pageable pageable);
 
 }
\ No newline at end of file
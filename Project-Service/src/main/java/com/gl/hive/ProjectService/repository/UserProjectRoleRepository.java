@@ -3,11 +3,28 @@ package com.gl.hive.ProjectService.repository;
 import com.gl.hive.ProjectService.model.entity.Project;
 import com.gl.hive.ProjectService.model.entity.UserProjectRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserProjectRoleRepository extends JpaRepository<UserProjectRole, Long> {
 
     Optional<UserProjectRole> findByUserIdAndRoleIdAndProject(Long userId, Long roleId, Project project);
 
-}
\ No newline at end of file
+    @Query("SELECT upr.project.projectId, upr.userId FROM UserProjectRole upr")
+    List<Object[]> findAllProjectAndUserIds();
+
+    @Query("SELECT upr.project.projectId, upr.userId FROM UserProjectRole upr WHERE upr.project.projectId IN :projectIds")
+    List<Object[]> findProjectAndUserIdsByProjectIdIn(Collection<Long> projectIds);
+
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM user_project_role WHERE project_id = :projectId LIMIT :limit")
+    int purgeBatchByProjectId(Long projectId, int limit);
+
+}
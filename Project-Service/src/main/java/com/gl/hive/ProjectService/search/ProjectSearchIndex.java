@@ -0,0 +1,185 @@
+package com.gl.hive.ProjectService.search;
+
+import com.gl.hive.ProjectService.model.entity.Project;
+import com.gl.hive.ProjectService.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the name and description of the projects.
+ * <p>
+ * Terms are kept in a sorted dictionary so every query term is matched as a prefix of the indexed terms,
+ * and a project must match all the query terms. A match in the name weighs more than a match in the description,
+ * and an exact term match weighs more than a prefix match.
+ * The index is rebuilt from the db at startup and updated incrementally when a project is created or updated.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final ProjectRepository projectRepository;
+
+    /* term -> (projectId -> weight) */
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    /* projectId -> the indexed terms, used to remove the old terms when a project is updated */
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+
+    /**
+     * A page of the search results.
+     *
+     * @param projectIds the ids of the projects in the page, ordered by rank
+     * @param total      the total number of matching projects
+     */
+    public record SearchResult(List<Long> projectIds, int total) {
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+
+            long cursor = 0L;
+            List<Project> batch;
+            do {
+                batch = projectRepository.findByProjectIdGreaterThan(cursor, PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("projectId")));
+                batch.forEach(this::add);
+                if (!batch.isEmpty()) cursor = batch.get(batch.size() - 1).getProjectId();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            log.info("✅ Project search index built with {} projects and {} terms ✅", documents.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Adds the project to the index, replacing its previously indexed name and description.
+     */
+    public void index(Project project) {
+        lock.writeLock().lock();
+        try {
+            remove(project.getProjectId());
+            add(project);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Removes the project from the index.
+     */
+    public void remove(Long projectId) {
+        lock.writeLock().lock();
+        try {
+            Set<String> terms = documents.remove(projectId);
+            if (terms == null) return;
+
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) continue;
+                posting.remove(projectId);
+                if (posting.isEmpty()) postings.remove(term);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Searches for the projects matching all the terms of the query.
+     *
+     * @param query the query; each of its terms is matched as a prefix
+     * @param page  the zero-based page number
+     * @param size  the page size
+     * @return the ids of the projects in the page ordered by rank, and the total number of matches
+     */
+    public SearchResult search(String query, int page, int size) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty())
+            return new SearchResult(List.of(), 0);
+
+        Map<Long, Integer> scores = null;
+        lock.readLock().lock();
+        try {
+            for (String queryTerm : new LinkedHashSet<>(queryTerms)) {
+                Map<Long, Integer> termScores = scoreTerm(queryTerm);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((projectId, score) -> score + termScores.get(projectId));
+                }
+                if (scores.isEmpty()) break;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        // the offset is computed in long, a large page number would overflow an int and wrap to a negative index
+        int from = (int) Math.min((long) page * size, ranked.size());
+        int to = Math.min(from + size, ranked.size());
+        return new SearchResult(ranked.subList(from, to), ranked.size());
+    }
+
+
+    /* the best score of each project for the terms starting with the query term */
+    private Map<Long, Integer> scoreTerm(String queryTerm) {
+        Map<Long, Integer> termScores = new HashMap<>();
+        postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false).forEach((term, posting) -> {
+            // an exact match counts twice as much as a prefix match
+            int boost = term.equals(queryTerm) ? 2 : 1;
+            posting.forEach((projectId, weight) -> termScores.merge(projectId, weight * boost, Math::max));
+        });
+        return termScores;
+    }
+
+
+    private void add(Project project) {
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(project.getProjectName()).forEach(term -> weights.merge(term, NAME_WEIGHT, Math::max));
+        tokenize(project.getDescription()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Math::max));
+
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(project.getProjectId(), weight)
+        );
+        documents.put(project.getProjectId(), weights.keySet());
+    }
+
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank())
+            return List.of();
+
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+
+}
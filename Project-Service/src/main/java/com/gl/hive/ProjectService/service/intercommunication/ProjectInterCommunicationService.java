@@ -5,16 +5,29 @@ import com.gl.hive.ProjectService.model.entity.Project;
 import com.gl.hive.ProjectService.model.entity.ProjectMembers;
 import com.gl.hive.ProjectService.repository.ProjectMembersRepository;
 import com.gl.hive.ProjectService.repository.ProjectRepository;
-import com.gl.hive.ProjectService.util.ProjectUtilsImpl;
+import com.gl.hive.ProjectService.util.ProjectMembershipIndex;
 import com.gl.hive.ProjectService.util.RepositoryUtils;
+import com.gl.hive.ProjectService.util.UserProjectsCache;
+import com.gl.hive.shared.lib.model.dto.ProjectAccessDTO;
 import com.gl.hive.shared.lib.model.dto.ProjectDTO;
+import com.gl.hive.shared.lib.model.dto.TaskEventDTO;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,45 +36,64 @@ public class ProjectInterCommunicationService {
 
     private final ProjectRepository projectRepository;
     private final AuthUserFeignClient authUserFeignClient;
-    private final ProjectUtilsImpl projectUtils;
     private final RepositoryUtils repositoryUtils;
     private final ProjectMembersRepository projectMembersRepository;
+    private final ProjectMembershipIndex projectMembershipIndex;
+    private final UserProjectsCache userProjectsCache;
+
+    public static final int DEFAULT_COMPLETED_PAGE_SIZE = 20;
+    private static final int MAX_COMPLETED_PAGE_SIZE = 100;
 
     public boolean isMemberOfProject(Long projectId, long userId) {
-        Project project = repositoryUtils.findProjectById_OrElseThrow_ResourceNotFoundException(projectId);
-        UserDTO userDTO = authUserFeignClient.getUserDTOById(userId);
+        return projectMembershipIndex.isMember(projectId, userId);
+    }
 
-        return projectUtils.isMemberOfProject(project, userDTO);
+
+    public List<Long> filterMembersOfProject(long projectId, Collection<Long> userIds) {
+        return projectMembershipIndex.filterMembers(projectId, userIds);
     }
 
 
     public boolean isLeaderOrAdminOfProject(long projectId, long userId) {
-        Project project = repositoryUtils.findProjectById_OrElseThrow_ResourceNotFoundException(projectId);
-        UserDTO userDTO = authUserFeignClient.getUserDTOById(userId);
+        return projectMembershipIndex.isLeaderOrAdmin(projectId, userId);
+    }
+
 
-        return projectUtils.isLeaderOrAdminOfProject(project, userDTO);
+    public ProjectAccessDTO getProjectAccess(long projectId, long userId) {
+        return projectMembershipIndex.getAccess(projectId, userId);
     }
 
 
     public ProjectDTO getProjectDTO(long projectId) {
         Project project = repositoryUtils.findProjectById_OrElseThrow_ResourceNotFoundException(projectId);
-        return ProjectDTO.builder()
-                .projectId(project.getProjectId())
-                .projectName(project.getProjectName())
-                .description(project.getDescription())
-                .createdAt(project.getCreatedAt())
-                .creationTime(project.getCreationTime())
-                .leaderId(project.getLeaderId())
-                .memberCount(project.getMemberCount())
-                .build();
+        return toProjectDTO(project);
+    }
+
+
+    /**
+     * Returns the projects with the given ids in one query, in the order of the ids; unknown ids are skipped.
+     *
+     * @param fields the fields to fill in besides the projectId, or empty for all of them
+     */
+    public List<ProjectDTO> getProjectDTOs(Collection<Long> projectIds, Set<String> fields) {
+        Map<Long, Project> projects = projectRepository.findAllById(new LinkedHashSet<>(projectIds))
+                .stream()
+                .collect(Collectors.toMap(Project::getProjectId, Function.identity()));
+        return new LinkedHashSet<>(projectIds).stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .map(project -> fields.isEmpty() ? toProjectDTO(project) : toProjectDTO(project, fields))
+                .toList();
     }
 
 
     public List<UserDTO> getUsersAssociatedWithTaskAndProject(long projectId) {
-        return repositoryUtils.find_ProjectMembersByProjectId(projectId)
+        List<Long> memberIds = repositoryUtils.find_ProjectMembersByProjectId(projectId)
                 .stream()
-                .map(projectMembers -> authUserFeignClient.getUserDTOById(projectMembers.getUserId()))
+                .map(ProjectMembers::getUserId)
+                .distinct()
                 .toList();
+        return memberIds.isEmpty() ? List.of() : authUserFeignClient.getUserDTOsByIds(memberIds);
     }
 
 
@@ -71,11 +103,61 @@ public class ProjectInterCommunicationService {
     }
 
     public ProjectDTO getActiveProjectForUser(Long userId) {
-        ProjectMembers activeAssignment = projectMembersRepository.findByUserIdAndActiveTrue(userId).stream().findFirst().orElse(null);
-        if (activeAssignment == null) return null;
-        Project project = activeAssignment.getProject();
-        // Fetch tasks and team members as needed
-        // ...
+        return userProjectsCache.getActiveProject(userId, () ->
+                projectMembersRepository.findActiveProjectsByUserId(userId, PageRequest.of(0, 1))
+                        .stream()
+                        .findFirst()
+                        .map(ProjectInterCommunicationService::toProjectDTO)
+                        .orElse(null)
+        );
+    }
+
+
+    public List<ProjectDTO> getCompletedProjectsForUser(Long userId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_COMPLETED_PAGE_SIZE));
+        int pageNumber = Math.max(page, 0);
+        Supplier<List<ProjectDTO>> loader = () ->
+                projectMembersRepository.findCompletedProjectsByUserId(userId, PageRequest.of(pageNumber, pageSize))
+                        .stream()
+                        .map(ProjectInterCommunicationService::toProjectDTO)
+                        .toList();
+
+        // only the first page of the default size is what the home screen asks for on every login
+        return pageNumber == 0 && pageSize == DEFAULT_COMPLETED_PAGE_SIZE
+                ? userProjectsCache.getCompletedProjects(userId, loader)
+                : loader.get();
+    }
+
+
+    @Transactional
+    public void applyTaskEvent(TaskEventDTO event) {
+        int updated = projectRepository.applyTaskDelta(
+                event.getProjectId(), event.getTotalDelta(), event.getCompletedDelta(), event.getOverdueDelta()
+        );
+        if (updated == 0)
+            log.warn("⚠️ received the {} event of task {{}} for the unknown project {{}} ⚠️",
+                    event.getType(), event.getTaskId(), event.getProjectId());
+    }
+
+
+
+    private static ProjectDTO toProjectDTO(Project project, Set<String> fields) {
+        return ProjectDTO.builder()
+                .projectId(project.getProjectId())
+                .projectName(fields.contains("projectName") ? project.getProjectName() : null)
+                .description(fields.contains("description") ? project.getDescription() : null)
+                .createdAt(fields.contains("createdAt") ? project.getCreatedAt() : null)
+                .creationTime(fields.contains("creationTime") ? project.getCreationTime() : null)
+                .leaderId(fields.contains("leaderId") ? project.getLeaderId() : null)
+                .memberCount(fields.contains("memberCount") ? project.getMemberCount() : 0)
+                .startDate(fields.contains("startDate") ? project.getStartDate() : null)
+                .endDate(fields.contains("endDate") ? project.getEndDate() : null)
+                .progress(fields.contains("progress") ? project.getProgress() : null)
+                .build();
+    }
+
+
+    private static ProjectDTO toProjectDTO(Project project) {
         return ProjectDTO.builder()
                 .projectId(project.getProjectId())
                 .projectName(project.getProjectName())
@@ -86,31 +168,8 @@ public class ProjectInterCommunicationService {
                 .memberCount(project.getMemberCount())
                 .startDate(project.getStartDate())
                 .endDate(project.getEndDate())
-                // Add tasks, team, progress, etc.
+                .progress(project.getProgress())
                 .build();
     }
 
-    public List<ProjectDTO> getCompletedProjectsForUser(Long userId) {
-        List<ProjectMembers> completedAssignments = projectMembersRepository.findByUserIdAndActiveFalse(userId);
-        List<ProjectDTO> completedProjects = new java.util.ArrayList<>();
-        for (ProjectMembers pm : completedAssignments) {
-            Project project = pm.getProject();
-            // Fetch tasks, team, metrics as needed
-            // ...
-            completedProjects.add(ProjectDTO.builder()
-                    .projectId(project.getProjectId())
-                    .projectName(project.getProjectName())
-                    .description(project.getDescription())
-                    .createdAt(project.getCreatedAt())
-                    .creationTime(project.getCreationTime())
-                    .leaderId(project.getLeaderId())
-                    .memberCount(project.getMemberCount())
-                    .startDate(project.getStartDate())
-                    .endDate(project.getEndDate())
-                    // Add tasks, team, metrics, etc.
-                    .build());
-        }
-        return completedProjects;
-    }
-
 }
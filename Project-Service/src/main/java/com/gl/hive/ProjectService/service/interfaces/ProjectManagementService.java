@@ -2,9 +2,15 @@ package com.gl.hive.ProjectService.service.interfaces;
 
 import com.gl.hive.ProjectService.model.dto.ProjectMembersDto;
 import com.gl.hive.ProjectService.model.request.ProjectRequest;
+import com.gl.hive.ProjectService.model.response.BurndownResponse;
+import com.gl.hive.ProjectService.model.response.MembersResponse;
+import com.gl.hive.ProjectService.model.response.ProjectDeletionResponse;
 import com.gl.hive.shared.lib.exceptions.ResourceAlreadyExistsException;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
 
+import java.time.LocalDate;
+import java.util.List;
+
 public interface ProjectManagementService {
 
     /**
@@ -32,6 +38,67 @@ public interface ProjectManagementService {
     void addMemberToProject(Long projectId, Long userId);
     void removeMemberFromProject(Long projectId, Long userId);
 
+
+    /**
+     * Adds many TEAM_MEMBERs to the project at once; each user is added or rejected independently.
+     *
+     * @param projectId the project to add the members to
+     * @param userIds   the users to add
+     * @return the status of each of the users as {@link MembersResponse}
+     * @throws ResourceNotFoundException if the project was not found
+     */
+    MembersResponse addMembersToProject(Long projectId, List<Long> userIds)
+            throws ResourceNotFoundException;
+
+
+    /**
+     * Removes many TEAM_MEMBERs from the project at once; each user is removed or rejected independently.
+     *
+     * @param projectId the project to remove the members from
+     * @param userIds   the users to remove
+     * @return the status of each of the users as {@link MembersResponse}
+     * @throws ResourceNotFoundException if the project was not found
+     */
+    MembersResponse removeMembersFromProject(Long projectId, List<Long> userIds)
+            throws ResourceNotFoundException;
+
     void updateProject(Long projectId, ProjectRequest projectRequest);
-    void deleteProject(Long projectId);
+
+
+    /**
+     * Deletes the project: it is tombstoned and hidden from every read right away, and its tasks, comments and members
+     * are purged in the background.
+     *
+     * @param projectId the project to delete
+     * @return the progress of the deletion as {@link ProjectDeletionResponse}
+     * @throws ResourceNotFoundException if the project was not found
+     */
+    ProjectDeletionResponse deleteProject(Long projectId)
+            throws ResourceNotFoundException;
+
+
+    /**
+     * Returns the progress of the deletion of the project. A deletion that failed too many times is reported at stage
+     * {@code FAILED}, with the stage it stopped at and the last error.
+     *
+     * @param projectId the deleted project
+     * @return the progress of the deletion as {@link ProjectDeletionResponse}
+     * @throws ResourceNotFoundException if the project was never deleted
+     */
+    ProjectDeletionResponse getDeletionStatus(Long projectId)
+            throws ResourceNotFoundException;
+
+
+    /**
+     * Returns the daily burndown of the project between the two days, both inclusive.
+     * The days are read from the recorded time series; today is served from the live task counters of the project.
+     *
+     * @param projectId the project
+     * @param from      the first day, defaults to 30 days before {@code to}
+     * @param to        the last day, defaults to today
+     * @return the burndown in columns as {@link BurndownResponse}
+     * @throws ResourceNotFoundException if the project was not found
+     */
+    BurndownResponse getBurndown(Long projectId, LocalDate from, LocalDate to)
+            throws ResourceNotFoundException;
 }
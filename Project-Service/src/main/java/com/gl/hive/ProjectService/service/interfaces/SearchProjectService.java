@@ -1,28 +1,36 @@
 package com.gl.hive.ProjectService.service.interfaces;
 
+import com.gl.hive.ProjectService.model.response.SearchPageResponse;
 import com.gl.hive.ProjectService.model.response.SearchResponse;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
 public interface SearchProjectService {
 
     /**
-     * Returns a list of all projects with their details.
+     * Returns a page of the projects visible to the current user with their details:
+     * all projects for an ADMIN, the led projects for a PROJECT_LEADER and the joined projects for a TEAM_MEMBER.
      *
-     * @return A list of SearchResponse objects containing project details.
+     * @param after     The projectId of the last project of the previous page, or null for the first page.
+     * @param size      The maximum number of projects in the page.
+     * @param direction The sort direction of the projectId.
+     * @return A SearchPageResponse containing the project details and the cursor of the next page.
      */
-    List<SearchResponse> listAllProjects();
+    SearchPageResponse listAllProjects(Long after, int size, Sort.Direction direction);
 
 
     /**
-     * Searches for a project based on their name and returns their details.
+     * Searches for projects by the terms of their name and description and returns their details, best matches first.
      *
-     * @param projectName The name of the project to search for.
+     * @param query The search terms; each term is matched as a prefix.
+     * @param page  The zero-based page number.
+     * @param size  The maximum number of projects in the page.
      * @return A list of SearchResponse objects containing project details.
-     * @throws ResourceNotFoundException If no project is found with the given name.
+     * @throws ResourceNotFoundException If no project matches the query.
      */
-    List<SearchResponse> searchForProject(String projectName)
+    List<SearchResponse> searchForProject(String query, int page, int size)
             throws ResourceNotFoundException;
 
 }
@@ -3,15 +3,27 @@ package com.gl.hive.ProjectService.service.module;
 import com.gl.hive.ProjectService.feign.client.AuthUserFeignClient;
 import com.gl.hive.ProjectService.model.dto.ProjectMembersDto;
 import com.gl.hive.ProjectService.model.entity.Project;
+import com.gl.hive.ProjectService.model.entity.ProjectBurndown;
+import com.gl.hive.ProjectService.model.entity.ProjectDeletion;
 import com.gl.hive.ProjectService.model.entity.ProjectMembers;
 import com.gl.hive.ProjectService.model.entity.UserProjectRole;
 import com.gl.hive.ProjectService.model.request.ProjectRequest;
+import com.gl.hive.ProjectService.model.response.BurndownResponse;
+import com.gl.hive.ProjectService.model.response.MembersResponse;
+import com.gl.hive.ProjectService.model.response.ProjectDeletionResponse;
+import com.gl.hive.ProjectService.repository.ProjectBurndownRepository;
+import com.gl.hive.ProjectService.repository.ProjectDeletionRepository;
 import com.gl.hive.ProjectService.repository.ProjectMembersRepository;
 import com.gl.hive.ProjectService.repository.ProjectRepository;
 import com.gl.hive.ProjectService.repository.UserProjectRoleRepository;
+import com.gl.hive.ProjectService.search.ProjectSearchIndex;
 import com.gl.hive.ProjectService.service.interfaces.ProjectManagementService;
+import com.gl.hive.ProjectService.util.ProjectAccessNotifier;
+import com.gl.hive.ProjectService.util.ProjectMembershipIndex;
 import com.gl.hive.ProjectService.util.ProjectUtilsImpl;
+import com.gl.hive.ProjectService.util.ReferenceDataUtils;
 import com.gl.hive.ProjectService.util.RepositoryUtils;
+import com.gl.hive.ProjectService.util.UserProjectsCache;
 import com.gl.hive.shared.lib.exceptions.ResourceAlreadyExistsException;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 import com.gl.hive.shared.lib.model.enums.Role;
@@ -19,12 +31,18 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 
+import static com.gl.hive.ProjectService.util.TransactionUtils.runAfterCommit;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.HttpStatus.NOT_ACCEPTABLE;
 
@@ -45,6 +63,17 @@ class ProjectManagementServiceImpl implements ProjectManagementService {
     private final HttpServletRequest httpServletRequest;
     private final ProjectUtilsImpl projectUtils;
     private final RepositoryUtils repositoryUtils;
+    private final ReferenceDataUtils referenceDataUtils;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectMembershipIndex projectMembershipIndex;
+    private final ProjectAccessNotifier projectAccessNotifier;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserProjectsCache userProjectsCache;
+    private final ProjectBurndownRepository projectBurndownRepository;
+    private final ProjectDeletionRepository projectDeletionRepository;
+
+    private static final int DEFAULT_BURNDOWN_DAYS = 30;
+    private static final int MAX_BURNDOWN_DAYS = 366;
 
     /**
      * {@inheritDoc}
@@ -68,7 +97,7 @@ class ProjectManagementServiceImpl implements ProjectManagementService {
         // Save the project to the database
         // Create a new `ProjectMembers` object for mapping a member for the current user
         // Create a new `UserProjectRole` object for mapping `PROJECT_LEADER` role for the user and project
-        Long projectLeaderRoleId = authUserFeignClient.getProjectLeaderRoleId();
+        Long projectLeaderRoleId = referenceDataUtils.getRoleId(Role.PROJECT_LEADER);
         saveProjectAndRelatedInfo(project, currentUserId, projectLeaderRoleId);
 
         // Return a `ProjectRequest` object with the project information as response
@@ -86,6 +115,7 @@ class ProjectManagementServiceImpl implements ProjectManagementService {
     }
 
     @Override
+    @Transactional
     public void addMemberToProject(Long projectId, Long userId) {
         String requestHeader = httpServletRequest.getHeader("Authorization");
         UserDTO currentUser = authUserFeignClient.getCurrentUsers_DTO(requestHeader);
@@ -101,34 +131,11 @@ class ProjectManagementServiceImpl implements ProjectManagementService {
         if (!isTeamMember) {
             throw new com.gl.hive.shared.lib.exceptions.HiveException("Only TEAM_MEMBERs can be added to a project", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
         }
-        // Enforce single active project rule
-        List<ProjectMembers> activeAssignments = projectMembersRepository.findByUserIdAndActiveTrue(userId);
-        if (!activeAssignments.isEmpty()) {
-            ProjectMembers currentAssignment = activeAssignments.get(0);
-            Project currentProject = currentAssignment.getProject();
-            if (currentProject.getEndDate() != null && currentProject.getEndDate().isBefore(java.time.LocalDate.now())) {
-                // Mark previous as inactive
-                currentAssignment.setActive(false);
-                currentAssignment.setCompletedAt(java.time.LocalDateTime.now());
-                projectMembersRepository.save(currentAssignment);
-            } else {
-                throw new com.gl.hive.shared.lib.exceptions.HiveException("User already has an active project assignment.", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
-            }
-        }
-        // Prevent duplicate assignment
-        boolean alreadyMember = projectMembersRepository.findByProject_ProjectId(projectId).stream().anyMatch(pm -> pm.getUserId().equals(userId));
-        if (alreadyMember) {
-            throw new com.gl.hive.shared.lib.exceptions.HiveException("User is already a member of this project", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
-        }
-        ProjectMembers newMember = new ProjectMembers(userId, project);
-        newMember.setAssignedAt(java.time.LocalDateTime.now());
-        newMember.setActive(true);
-        projectMembersRepository.save(newMember);
-        project.incrementMemberCount();
-        projectRepository.save(project);
+        addMember(project, userId);
     }
 
     @Override
+    @Transactional
     public void removeMemberFromProject(Long projectId, Long userId) {
         String requestHeader = httpServletRequest.getHeader("Authorization");
         UserDTO currentUser = authUserFeignClient.getCurrentUsers_DTO(requestHeader);
@@ -144,17 +151,100 @@ class ProjectManagementServiceImpl implements ProjectManagementService {
         if (!isTeamMember) {
             throw new com.gl.hive.shared.lib.exceptions.HiveException("Only TEAM_MEMBERs can be removed from a project", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
         }
-        // Remove member if exists
-        List<ProjectMembers> members = projectMembersRepository.findByProject_ProjectId(projectId);
-        for (ProjectMembers pm : members) {
-            if (pm.getUserId().equals(userId)) {
-                projectMembersRepository.delete(pm);
-                project.setMemberCount(Math.max(0, project.getMemberCount() - 1));
-                projectRepository.save(project);
-                return;
+        removeMember(projectId, userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public MembersResponse addMembersToProject(Long projectId, List<Long> userIds) {
+        Project project = repositoryUtils.findProjectById_OrElseThrow_ResourceNotFoundException(projectId);
+        validateLeaderOrAdminOfProject(project, "Not authorized to add members to this project");
+
+        Map<Long, String> results = new LinkedHashMap<>();
+        Set<Long> candidates = resolveTeamMembers(userIds, results);
+        projectRepository.findByIdForUpdate(projectId);
+
+        // Prevent duplicate assignments
+        projectMembersRepository.findUserIdsByProjectIdAndUserIdIn(projectId, candidates).forEach(userId -> {
+            candidates.remove(userId);
+            results.put(userId, "User is already a member of this project");
+        });
+
+        // Enforce single active project rule; the assignments of expired projects are completed
+        List<Long> expiredAssignmentIds = new ArrayList<>();
+        if (!candidates.isEmpty()) {
+            for (ProjectMembers assignment : projectMembersRepository.findByUserIdInAndActiveTrue_ForUpdate(candidates)) {
+                LocalDate endDate = assignment.getProject().getEndDate();
+                if (endDate != null && endDate.isBefore(LocalDate.now())) {
+                    expiredAssignmentIds.add(assignment.getProjectMemberId());
+                } else {
+                    candidates.remove(assignment.getUserId());
+                    results.put(assignment.getUserId(), "User already has an active project assignment.");
+                }
             }
         }
-        throw new com.gl.hive.shared.lib.exceptions.HiveException("User is not a member of this project", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
+        if (!expiredAssignmentIds.isEmpty())
+            projectMembersRepository.deactivateAll(expiredAssignmentIds, LocalDateTime.now());
+
+        // Insert all the new members in one batch
+        if (!candidates.isEmpty()) {
+            Timestamp assignedAt = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = candidates.stream()
+                    .map(userId -> new Object[]{projectId, userId, true, assignedAt})
+                    .toList();
+            try {
+                jdbcTemplate.batchUpdate("INSERT INTO project_members (project_id, user_id, active, assigned_at) VALUES (?, ?, ?, ?)", rows);
+            } catch (DataIntegrityViolationException e) {
+                // a concurrent request added some of the same members first
+                throw new com.gl.hive.shared.lib.exceptions.HiveException("Some of the users were added to this project concurrently, try again", org.springframework.http.HttpStatus.CONFLICT, 409);
+            }
+            projectRepository.incrementMemberCount(projectId, candidates.size());
+            candidates.forEach(userId -> results.put(userId, "User added to project"));
+
+            projectMembershipIndex.membersAdded(projectId, candidates);
+            projectUtils.evictUserDtoList(projectId);
+            userProjectsCache.evictUsers(candidates);
+            projectAccessNotifier.projectAccessChanged(projectId);
+        }
+
+        return buildMembersResponse(candidates.size(), results);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public MembersResponse removeMembersFromProject(Long projectId, List<Long> userIds) {
+        Project project = repositoryUtils.findProjectById_OrElseThrow_ResourceNotFoundException(projectId);
+        validateLeaderOrAdminOfProject(project, "Not authorized to remove members from this project");
+
+        Map<Long, String> results = new LinkedHashMap<>();
+        Set<Long> candidates = resolveTeamMembers(userIds, results);
+
+        Set<Long> members = new HashSet<>(projectMembersRepository.findUserIdsByProjectIdAndUserIdIn(projectId, candidates));
+        candidates.removeIf(userId -> {
+            if (members.contains(userId)) return false;
+            results.put(userId, "User is not a member of this project");
+            return true;
+        });
+
+        if (!candidates.isEmpty()) {
+            int removed = projectMembersRepository.deleteByProjectIdAndUserIdIn(projectId, candidates);
+            projectRepository.decrementMemberCount(projectId, removed);
+            candidates.forEach(userId -> results.put(userId, "User removed from project"));
+
+            projectMembershipIndex.membersRemoved(projectId, candidates);
+            projectUtils.evictUserDtoList(projectId);
+            userProjectsCache.evictUsers(candidates);
+            projectAccessNotifier.projectAccessChanged(projectId);
+        }
+
+        return buildMembersResponse(candidates.size(), results);
     }
 
     @Override
@@ -172,10 +262,17 @@ class ProjectManagementServiceImpl implements ProjectManagementService {
         if (projectRequest.getStartDate() != null) project.setStartDate(projectRequest.getStartDate());
         if (projectRequest.getEndDate() != null) project.setEndDate(projectRequest.getEndDate());
         projectRepository.save(project);
+        runAfterCommit(() -> projectSearchIndex.index(project));
+        projectMembershipIndex.projectUpdated(projectId, project.getStartDate(), project.getEndDate());
+        projectAccessNotifier.projectAccessChanged(projectId);
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public void deleteProject(Long projectId) {
+    @Transactional
+    public ProjectDeletionResponse deleteProject(Long projectId) {
         String requestHeader = httpServletRequest.getHeader("Authorization");
         UserDTO currentUser = authUserFeignClient.getCurrentUsers_DTO(requestHeader);
         List<String> roles = currentUser.getRoles().stream().map(r -> r.getRole().name()).toList();
@@ -183,9 +280,226 @@ class ProjectManagementServiceImpl implements ProjectManagementService {
         if (!(roles.contains("ADMIN") || (roles.contains("PROJECT_LEADER") && project.getLeaderId().equals(currentUser.getUserId())))) {
             throw new com.gl.hive.shared.lib.exceptions.HiveException("Not authorized to delete this project", org.springframework.http.HttpStatus.FORBIDDEN, 403);
         }
-        throw new com.gl.hive.shared.lib.exceptions.HiveException("Not implemented", org.springframework.http.HttpStatus.NOT_IMPLEMENTED, 501);
+
+        LocalDateTime now = LocalDateTime.now();
+        if (projectRepository.markDeleted(projectId, now) == 0) {
+            throw new com.gl.hive.shared.lib.exceptions.HiveException("Project is already being deleted", org.springframework.http.HttpStatus.CONFLICT, 409);
+        }
+        // free the members right away, so they can be assigned to another project before the purge
+        projectMembersRepository.deactivateByProjectIdIn(List.of(projectId), now);
+        ProjectDeletion deletion = projectDeletionRepository.save(ProjectDeletion.builder()
+                .projectId(projectId)
+                .stage(ProjectDeletion.Stage.TASKS)
+                .requestedByUserId(currentUser.getUserId())
+                .requestedAt(now)
+                .updatedAt(now)
+                .build());
+
+        runAfterCommit(() -> projectSearchIndex.remove(projectId));
+        projectMembershipIndex.projectRemoved(projectId);
+        projectUtils.evictUserDtoList(projectId);
+        userProjectsCache.evictAll();
+        projectAccessNotifier.projectAccessChanged(projectId);
+
+        log.info("🗑️ project {{}} tombstoned, its dependents will be purged in the background 🗑️", projectId);
+        return toDeletionResponse(deletion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ProjectDeletionResponse getDeletionStatus(Long projectId) {
+        ProjectDeletion deletion = projectDeletionRepository.findById(projectId)
+                .orElseThrow(() -> new com.gl.hive.shared.lib.exceptions.ResourceNotFoundException("Deletion of project {" + projectId + "} was not found", org.springframework.http.HttpStatus.NOT_FOUND, 404));
+
+        String requestHeader = httpServletRequest.getHeader(AUTHORIZATION);
+        UserDTO currentUser = authUserFeignClient.getCurrentUsers_DTO(requestHeader);
+        boolean isAdmin = currentUser.getRoles().stream().anyMatch(r -> r.getRole() == Role.ADMIN);
+        if (!(isAdmin || currentUser.getUserId().equals(deletion.getRequestedByUserId()))) {
+            throw new com.gl.hive.shared.lib.exceptions.HiveException("Not authorized to see the deletion of this project", org.springframework.http.HttpStatus.FORBIDDEN, 403);
+        }
+        return toDeletionResponse(deletion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BurndownResponse getBurndown(Long projectId, LocalDate from, LocalDate to) {
+        Project project = repositoryUtils.findProjectById_OrElseThrow_ResourceNotFoundException(projectId);
+        validateLeaderOrAdminOfProject(project, "Not authorized to see the burndown of this project");
+
+        LocalDate today = LocalDate.now();
+        if (to == null) to = today;
+        if (from == null) from = to.minusDays(DEFAULT_BURNDOWN_DAYS - 1);
+        if (from.isAfter(to))
+            throw new com.gl.hive.shared.lib.exceptions.HiveException("'from' must not be after 'to'", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
+        // both ends are included, so the range spans DAYS.between(from, to) + 1 days
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_BURNDOWN_DAYS)
+            throw new com.gl.hive.shared.lib.exceptions.HiveException("The burndown can be requested for at most " + MAX_BURNDOWN_DAYS + " days", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
+
+        List<ProjectBurndown> snapshots = new ArrayList<>(
+                projectBurndownRepository.findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDate(projectId, from, to)
+        );
+        // today is not recorded until the end of the day; take it from the live counters instead
+        boolean includesToday = !today.isBefore(from) && !today.isAfter(to);
+        if (includesToday) {
+            snapshots.removeIf(snapshot -> snapshot.getSnapshotDate().equals(today));
+            snapshots.add(ProjectBurndown.builder()
+                    .projectId(projectId)
+                    .snapshotDate(today)
+                    .openCount(project.getTaskCount() - project.getCompletedTaskCount())
+                    .completedCount(project.getCompletedTaskCount())
+                    .overdueCount(project.getOverdueTaskCount())
+                    .build());
+        }
+
+        int size = snapshots.size();
+        List<LocalDate> days = new ArrayList<>(size);
+        int[] open = new int[size];
+        int[] completed = new int[size];
+        int[] overdue = new int[size];
+        for (int i = 0; i < size; i++) {
+            ProjectBurndown snapshot = snapshots.get(i);
+            days.add(snapshot.getSnapshotDate());
+            open[i] = snapshot.getOpenCount();
+            completed[i] = snapshot.getCompletedCount();
+            overdue[i] = snapshot.getOverdueCount();
+        }
+        return BurndownResponse.builder()
+                .projectId(projectId)
+                .from(from)
+                .to(to)
+                .days(days)
+                .open(open)
+                .completed(completed)
+                .overdue(overdue)
+                .build();
     }
 
+    /**
+     * Adds the user to the project. The project row and then the assignments of the user are locked first, so concurrent
+     * assignments to the same project or of the same user are serialized by the db, and the member count is incremented
+     * with an atomic update instead of a read-modify-write.
+     */
+    private void addMember(Project project, Long userId) {
+        Long projectId = project.getProjectId();
+        projectRepository.findByIdForUpdate(projectId);
+
+        // Prevent duplicate assignment
+        if (projectMembersRepository.existsByProject_ProjectIdAndUserId(projectId, userId)) {
+            throw new com.gl.hive.shared.lib.exceptions.HiveException("User is already a member of this project", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
+        }
+        // Enforce single active project rule
+        List<ProjectMembers> activeAssignments = projectMembersRepository.findByUserIdAndActiveTrue_ForUpdate(userId);
+        if (!activeAssignments.isEmpty()) {
+            ProjectMembers currentAssignment = activeAssignments.get(0);
+            Project currentProject = currentAssignment.getProject();
+            if (currentProject.getEndDate() != null && currentProject.getEndDate().isBefore(java.time.LocalDate.now())) {
+                // Mark previous as inactive; normally done by MembershipLifecycleJob, this covers the project ending since its last run
+                currentAssignment.setActive(false);
+                currentAssignment.setCompletedAt(java.time.LocalDateTime.now());
+                projectMembersRepository.save(currentAssignment);
+            } else {
+                throw new com.gl.hive.shared.lib.exceptions.HiveException("User already has an active project assignment.", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
+            }
+        }
+
+        ProjectMembers newMember = new ProjectMembers(userId, project);
+        newMember.setAssignedAt(java.time.LocalDateTime.now());
+        newMember.setActive(true);
+        try {
+            projectMembersRepository.saveAndFlush(newMember);
+        } catch (DataIntegrityViolationException e) {
+            // a concurrent request added the same member first
+            throw new com.gl.hive.shared.lib.exceptions.HiveException("User is already a member of this project", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
+        }
+        projectRepository.incrementMemberCount(projectId, 1);
+
+        projectMembershipIndex.memberAdded(projectId, userId);
+        projectUtils.evictUserDtoList(projectId);
+        userProjectsCache.evictUser(userId);
+        projectAccessNotifier.projectAccessChanged(projectId);
+    }
+
+
+    private void removeMember(Long projectId, Long userId) {
+        int removed = projectMembersRepository.deleteByProjectIdAndUserId(projectId, userId);
+        if (removed == 0) {
+            throw new com.gl.hive.shared.lib.exceptions.HiveException("User is not a member of this project", org.springframework.http.HttpStatus.BAD_REQUEST, 400);
+        }
+        projectRepository.decrementMemberCount(projectId, removed);
+
+        projectMembershipIndex.memberRemoved(projectId, userId);
+        projectUtils.evictUserDtoList(projectId);
+        userProjectsCache.evictUser(userId);
+        projectAccessNotifier.projectAccessChanged(projectId);
+    }
+
+
+    private void validateLeaderOrAdminOfProject(Project project, String message) {
+        String requestHeader = httpServletRequest.getHeader(AUTHORIZATION);
+        UserDTO currentUser = authUserFeignClient.getCurrentUsers_DTO(requestHeader);
+        boolean isAdmin = currentUser.getRoles().stream().anyMatch(r -> r.getRole() == Role.ADMIN);
+        boolean isLeader = currentUser.getRoles().stream().anyMatch(r -> r.getRole() == Role.PROJECT_LEADER)
+                && project.getLeaderId().equals(currentUser.getUserId());
+        if (!(isAdmin || isLeader)) {
+            throw new com.gl.hive.shared.lib.exceptions.HiveException(message, org.springframework.http.HttpStatus.FORBIDDEN, 403);
+        }
+    }
+
+
+    /**
+     * Resolves the users in one call and returns the ids of the TEAM_MEMBERs; the other users get their result right away.
+     */
+    private Set<Long> resolveTeamMembers(List<Long> userIds, Map<Long, String> results) {
+        Set<Long> requestedIds = new LinkedHashSet<>(userIds);
+        requestedIds.remove(null);
+        Map<Long, UserDTO> users = projectUtils.getUserDTOs(requestedIds);
+
+        Set<Long> teamMembers = new LinkedHashSet<>();
+        for (Long userId : requestedIds) {
+            UserDTO user = users.get(userId);
+            if (user == null) {
+                results.put(userId, "User was not found");
+            } else if (user.getRoles().stream().noneMatch(r -> r.getRole() == Role.TEAM_MEMBER)) {
+                results.put(userId, "Only TEAM_MEMBERs can be members of a project");
+            } else {
+                results.put(userId, null);
+                teamMembers.add(userId);
+            }
+        }
+        return teamMembers;
+    }
+
+
+    private static ProjectDeletionResponse toDeletionResponse(ProjectDeletion deletion) {
+        return ProjectDeletionResponse.builder()
+                .projectId(deletion.getProjectId())
+                .stage(deletion.getStage())
+                .requestedAt(deletion.getRequestedAt())
+                .updatedAt(deletion.getUpdatedAt())
+                .completedAt(deletion.getCompletedAt())
+                .purgedTasks(deletion.getPurgedTasks())
+                .purgedComments(deletion.getPurgedComments())
+                .purgedMembers(deletion.getPurgedMembers())
+                .failedAttempts(deletion.getFailedAttempts())
+                .failedStage(deletion.getFailedStage())
+                .lastError(deletion.getLastError())
+                .build();
+    }
+
+
+    private static MembersResponse buildMembersResponse(int succeeded, Map<Long, String> results) {
+        return MembersResponse.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+
     private void validateProjectNameUnique(String projectName) {
         Optional<Project> foundProject = projectRepository.findByProjectNameAllIgnoreCase(projectName);
         if (foundProject.isPresent()) {
@@ -220,6 +534,9 @@ class ProjectManagementServiceImpl implements ProjectManagementService {
 
         UserProjectRole userProjectRole = new UserProjectRole(currentUserId, projectLeaderRole, project);
         userProjectRoleRepository.save(userProjectRole);
+
+        runAfterCommit(() -> projectSearchIndex.index(project));
+        projectMembershipIndex.projectCreated(project.getProjectId(), currentUserId, project.getStartDate(), project.getEndDate());
     }
 
 
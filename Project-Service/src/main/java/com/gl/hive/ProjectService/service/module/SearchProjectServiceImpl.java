@@ -3,23 +3,32 @@ package com.gl.hive.ProjectService.service.module;
 import com.gl.hive.ProjectService.feign.client.AuthUserFeignClient;
 import com.gl.hive.ProjectService.feign.client.CommentFeignClient;
 import com.gl.hive.ProjectService.model.dto.ProjectMembersDto;
+import com.gl.hive.ProjectService.model.dto.UserMembersDto;
 import com.gl.hive.ProjectService.model.entity.Project;
+import com.gl.hive.ProjectService.model.response.SearchPageResponse;
 import com.gl.hive.ProjectService.model.response.SearchResponse;
 import com.gl.hive.ProjectService.repository.ProjectRepository;
-import com.gl.hive.ProjectService.repository.ProjectMembersRepository;
+import com.gl.hive.ProjectService.search.ProjectSearchIndex;
 import com.gl.hive.ProjectService.service.interfaces.SearchProjectService;
 import com.gl.hive.ProjectService.util.ProjectUtilsImpl;
 import com.gl.hive.shared.lib.exceptions.HiveException;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
-import com.gl.hive.shared.lib.model.dto.CommentDTO;
+import com.gl.hive.shared.lib.model.dto.ProjectCommentsDTO;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import jakarta.servlet.http.HttpServletRequest;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -29,57 +38,76 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor // TODO:: pagination
+@RequiredArgsConstructor
 public class SearchProjectServiceImpl implements SearchProjectService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int COMMENTS_PER_PROJECT = 20;
+
     private final ProjectRepository projectRepository;
     private final AuthUserFeignClient authUserFeignClient;
     private final CommentFeignClient commentFeignClient;
     private final ProjectUtilsImpl projectUtils;
-    private final ProjectMembersRepository projectMembersRepository;
     private final HttpServletRequest httpServletRequest;
+    private final ProjectSearchIndex projectSearchIndex;
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<SearchResponse> listAllProjects() {
+    public SearchPageResponse listAllProjects(Long after, int size, Sort.Direction direction) {
         String requestHeader = httpServletRequest.getHeader("Authorization");
         UserDTO currentUser = authUserFeignClient.getCurrentUsers_DTO(requestHeader);
         List<String> roles = currentUser.getRoles().stream().map(r -> r.getRole().name()).toList();
+
+        // 1. Find one project more than the page size, to know whether there is a next page.
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        boolean ascending = direction.isAscending();
+        long cursor = after != null ? after : (ascending ? 0L : Long.MAX_VALUE);
+        Pageable pageable = PageRequest.of(0, size + 1, Sort.by(direction, "projectId"));
         List<Project> projects;
         if (roles.contains("ADMIN")) {
-            projects = projectRepository.findAll();
+            projects = ascending
+                    ? projectRepository.findByProjectIdGreaterThan(cursor, pageable)
+                    : projectRepository.findByProjectIdLessThan(cursor, pageable);
         } else if (roles.contains("PROJECT_LEADER")) {
-            projects = projectRepository.findAll().stream()
-                    .filter(p -> p.getLeaderId() != null && p.getLeaderId().equals(currentUser.getUserId()))
-                    .toList();
+            projects = ascending
+                    ? projectRepository.findByLeaderIdAndProjectIdGreaterThan(currentUser.getUserId(), cursor, pageable)
+                    : projectRepository.findByLeaderIdAndProjectIdLessThan(currentUser.getUserId(), cursor, pageable);
         } else if (roles.contains("TEAM_MEMBER")) {
-            // Find projects where the user is a member
-            List<Long> memberProjectIds = projectMembersRepository.findAll().stream()
-                    .filter(pm -> pm.getUserId().equals(currentUser.getUserId()))
-                    .map(pm -> pm.getProject().getProjectId())
-                    .toList();
-            projects = projectRepository.findAll().stream()
-                    .filter(p -> memberProjectIds.contains(p.getProjectId()))
-                    .toList();
+            projects = ascending
+                    ? projectRepository.findByMemberIdAndProjectIdGreaterThan(currentUser.getUserId(), cursor, pageable)
+                    : projectRepository.findByMemberIdAndProjectIdLessThan(currentUser.getUserId(), cursor, pageable);
         } else {
             projects = List.of();
         }
-        // 2. Get all the comments of each of the projects.
-        List<CommentDTO> commentDTOs = getCommentDTOs(projects);
-        // 3. Map each project to a SearchResponse object and collect them into a list.
-        return projects.stream().map(project -> {
+
+        Long nextCursor = null;
+        if (projects.size() > size) {
+            projects = projects.subList(0, size);
+            nextCursor = projects.get(size - 1).getProjectId();
+        }
+
+        // 2. Get the latest comments of all the projects in one call.
+        Map<Long, ProjectCommentsDTO> projectComments = getProjectComments(projects);
+        // 3. Get the members and the leaders of all the projects in bulk.
+        Map<Long, List<UserMembersDto>> members = projectUtils.getUserDtoLists(projects);
+        Map<Long, UserDTO> leaders = getLeaders(projects);
+
+        // 4. Map each project to a SearchResponse object and collect them into a list.
+        List<SearchResponse> searchResponses = projects.stream().map(project -> {
             try {
-                UserDTO leaderUserDTO = authUserFeignClient.getUserDTOById(project.getLeaderId());
+                ProjectCommentsDTO comments = getComments(projectComments, project);
+                UserDTO leaderUserDTO = getLeader(leaders, project);
                 return SearchResponse.builder()
                         .projectId(project.getProjectId())
                         .leaderId(project.getLeaderId())
                         .projectName(project.getProjectName())
                         .projectDescription(project.getDescription())
                         .leaderName(leaderUserDTO.getUsername())
-                        .members(new ProjectMembersDto(projectUtils.getUserDtoList(project)))
-                        .commentDTOs(commentDTOs)
+                        .members(new ProjectMembersDto(members.getOrDefault(project.getProjectId(), List.of())))
+                        .commentDTOs(comments.getComments())
+                        .commentCount(comments.getCommentCount())
                         .progress(project.getProgress())
                         .startDate(project.getStartDate())
                         .endDate(project.getEndDate())
@@ -94,6 +122,11 @@ public class SearchProjectServiceImpl implements SearchProjectService {
                 );
             }
         }).toList();
+
+        return SearchPageResponse.builder()
+                .projects(searchResponses)
+                .nextCursor(nextCursor)
+                .build();
     }
 
 
@@ -101,25 +134,38 @@ public class SearchProjectServiceImpl implements SearchProjectService {
      * {@inheritDoc}
      */
     @Override
-    public List<SearchResponse> searchForProject(String projectName) {
-        // 1. Search for projects with names containing the given string.
-        List<Project> projects = projectRepository.findByProjectNameContaining(projectName);
+    public List<SearchResponse> searchForProject(String query, int page, int size) {
+        // 1. Search the index for the ids of the best matching projects.
+        ProjectSearchIndex.SearchResult result = projectSearchIndex.search(query, Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
 
         // 2. Throw an exception if no project is found.
-        if (projects == null || projects.isEmpty())
+        if (result.total() == 0)
             throw new ResourceNotFoundException(
-                    "😖 huh... it seems the project with name '" + projectName + "' wasn't found in the db 😖",
+                    "😖 huh... it seems the project with name '" + query + "' wasn't found in the db 😖",
                     NOT_FOUND,
                     NOT_FOUND.value()
             );
 
-        // 3. Find the comments for each of the projects.
-        List<CommentDTO> commentDTOs = getCommentDTOs(projects);
+        // Load the projects of the page, keeping the order of the ranking
+        Map<Long, Project> projectsById = projectRepository.findAllById(result.projectIds()).stream()
+                .collect(Collectors.toMap(Project::getProjectId, Function.identity()));
+        List<Project> projects = result.projectIds().stream()
+                .map(projectsById::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-        // 4. Map each project to a SearchResponse object and collect them into a list.
+        // 3. Find the latest comments of all the projects in one call.
+        Map<Long, ProjectCommentsDTO> projectComments = getProjectComments(projects);
+
+        // 4. Get the members and the leaders of all the projects in bulk.
+        Map<Long, List<UserMembersDto>> members = projectUtils.getUserDtoLists(projects);
+        Map<Long, UserDTO> leaders = getLeaders(projects);
+
+        // 5. Map each project to a SearchResponse object and collect them into a list.
         return projects.stream()
                 .map(project -> {
-                            String leaderName = authUserFeignClient.getUserDTOById(project.getLeaderId()).getUsername();
+                            String leaderName = getLeader(leaders, project).getUsername();
+                            ProjectCommentsDTO comments = getComments(projectComments, project);
 
                             return SearchResponse.builder()
                                     .projectId(project.getProjectId())
@@ -127,8 +173,9 @@ public class SearchProjectServiceImpl implements SearchProjectService {
                                     .projectName(project.getProjectName())
                                     .projectDescription(project.getDescription())
                                     .leaderName(leaderName)
-                                    .members(new ProjectMembersDto(projectUtils.getUserDtoList(project)))
-                                    .commentDTOs(commentDTOs)
+                                    .members(new ProjectMembersDto(members.getOrDefault(project.getProjectId(), List.of())))
+                                    .commentDTOs(comments.getComments())
+                                    .commentCount(comments.getCommentCount())
                                     .progress(project.getProgress())
                                     .startDate(project.getStartDate())
                                     .endDate(project.getEndDate())                                
@@ -139,11 +186,43 @@ public class SearchProjectServiceImpl implements SearchProjectService {
     }
 
 
-    private List<CommentDTO> getCommentDTOs(List<Project> projects) {
-        List<CommentDTO> commentDTOs = new ArrayList<>();
-        for (Project project : projects)
-            commentDTOs = commentFeignClient.getCommentListAsDTOs_ByProjectId(project.getProjectId());
-        return commentDTOs;
+    private Map<Long, ProjectCommentsDTO> getProjectComments(List<Project> projects) {
+        if (projects.isEmpty())
+            return Map.of();
+
+        List<Long> projectIds = projects.stream().map(Project::getProjectId).toList();
+        return commentFeignClient.getCommentsByProjectIds(projectIds, COMMENTS_PER_PROJECT, false);
+    }
+
+
+    private Map<Long, UserDTO> getLeaders(List<Project> projects) {
+        Set<Long> leaderIds = projects.stream()
+                .map(Project::getLeaderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return projectUtils.getUserDTOs(leaderIds);
+    }
+
+
+    private static UserDTO getLeader(Map<Long, UserDTO> leaders, Project project) {
+        UserDTO leader = leaders.get(project.getLeaderId());
+        if (leader == null) {
+            log.error("😖 huh... it seems the leader {{}} of project {{}} wasn't found 😖", project.getLeaderId(), project.getProjectId());
+            throw new ResourceNotFoundException(
+                    "😖 User with the given userId was NOT found 😖",
+                    NOT_FOUND,
+                    NOT_FOUND.value()
+            );
+        }
+        return leader;
+    }
+
+
+    private static ProjectCommentsDTO getComments(Map<Long, ProjectCommentsDTO> projectComments, Project project) {
+        ProjectCommentsDTO comments = projectComments.get(project.getProjectId());
+        return comments != null
+                ? comments
+                : ProjectCommentsDTO.builder().projectId(project.getProjectId()).build();
     }
 
 }
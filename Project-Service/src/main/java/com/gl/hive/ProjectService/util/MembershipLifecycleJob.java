@@ -0,0 +1,116 @@
+package com.gl.hive.ProjectService.util;
+
+import com.gl.hive.ProjectService.repository.ProjectMembersRepository;
+import com.gl.hive.ProjectService.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deactivates the memberships of the projects whose end date has passed.
+ * <p>
+ * The ended projects are found through the index on {@code end_date} and processed in chunks, each chunk with one bulk
+ * {@code UPDATE} in its own transaction, so a long run never holds the locks of all the memberships at once.
+ * The changed projects of a chunk are announced to the other services in one call, and the progress of the job is exposed as metrics.
+ */
+@Slf4j
+@Service
+public class MembershipLifecycleJob {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMembersRepository projectMembersRepository;
+    private final ProjectUtils projectUtils;
+    private final ProjectAccessNotifier projectAccessNotifier;
+    private final UserProjectsCache userProjectsCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter deactivatedMemberships;
+    private final Counter processedProjects;
+    private final Timer runTimer;
+    private final AtomicLong lastRunDeactivated = new AtomicLong();
+    private final AtomicLong lastRunEpochSecond = new AtomicLong();
+
+    public MembershipLifecycleJob(ProjectRepository projectRepository,
+                                  ProjectMembersRepository projectMembersRepository,
+                                  ProjectUtils projectUtils,
+                                  ProjectAccessNotifier projectAccessNotifier,
+                                  UserProjectsCache userProjectsCache,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.projectMembersRepository = projectMembersRepository;
+        this.projectUtils = projectUtils;
+        this.projectAccessNotifier = projectAccessNotifier;
+        this.userProjectsCache = userProjectsCache;
+        this.transactionTemplate = transactionTemplate;
+
+        this.deactivatedMemberships = meterRegistry.counter("project.membership.lifecycle.deactivated");
+        this.processedProjects = meterRegistry.counter("project.membership.lifecycle.projects");
+        this.runTimer = meterRegistry.timer("project.membership.lifecycle.run");
+        Gauge.builder("project.membership.lifecycle.last-run.deactivated", lastRunDeactivated, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("project.membership.lifecycle.last-run.timestamp", lastRunEpochSecond, AtomicLong::get).register(meterRegistry);
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${project.membership.lifecycle-cron:0 5 0 * * *}")
+    public void deactivateEndedMemberships() {
+        runTimer.record(this::run);
+    }
+
+
+    private void run() {
+        LocalDate today = LocalDate.now();
+        long cursor = 0;
+        long deactivated = 0;
+        int projects = 0;
+        try {
+            List<Long> chunk;
+            do {
+                chunk = projectRepository.findEndedProjectIdsWithActiveMembers(today, cursor, PageRequest.of(0, CHUNK_SIZE));
+                if (chunk.isEmpty())
+                    break;
+
+                List<Long> projectIds = chunk;
+                Integer updated = transactionTemplate.execute(status -> {
+                    int count = projectMembersRepository.deactivateByProjectIdIn(projectIds, LocalDateTime.now());
+                    projectIds.forEach(projectUtils::evictUserDtoList);
+                    // one call per service for the whole chunk, registered in the transaction so it is sent once the chunk commits
+                    projectAccessNotifier.projectsAccessChanged(projectIds);
+                    // the members of the chunk are not loaded, so the views of every user are dropped
+                    userProjectsCache.evictAll();
+                    return count;
+                });
+
+                int count = updated != null ? updated : 0;
+                deactivated += count;
+                projects += chunk.size();
+                deactivatedMemberships.increment(count);
+                processedProjects.increment(chunk.size());
+                cursor = chunk.get(chunk.size() - 1);
+            } while (chunk.size() == CHUNK_SIZE);
+            log.info("✅ deactivated {} memberships of {} ended projects ✅", deactivated, projects);
+        } catch (Exception e) {
+            log.warn("⚠️ membership lifecycle job stopped after {} projects: {} ⚠️", projects, e.getMessage());
+        } finally {
+            lastRunDeactivated.set(deactivated);
+            lastRunEpochSecond.set(System.currentTimeMillis() / 1000);
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.gl.hive.ProjectService.util;
+
+import com.gl.hive.ProjectService.feign.client.CommentFeignClient;
+import com.gl.hive.ProjectService.feign.client.TaskFeignClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.gl.hive.ProjectService.util.TransactionUtils.runAfterCommit;
+
+/**
+ * Notifies the services caching the project access decisions that the access to a project changed.
+ * <p>
+ * The notifications are best-effort: a service that misses one serves the stale decision until its cache entry expires.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectAccessNotifier {
+
+    private final TaskFeignClient taskFeignClient;
+    private final CommentFeignClient commentFeignClient;
+
+    public void projectAccessChanged(long projectId) {
+        runAfterCommit(() -> {
+            try {
+                taskFeignClient.evictProjectAccess(projectId);
+            } catch (Exception e) {
+                log.warn("⚠️ could not notify the TASK-SERVICE of the access change of project {{}}: {} ⚠️", projectId, e.getMessage());
+            }
+            try {
+                commentFeignClient.evictProjectAccess(projectId);
+            } catch (Exception e) {
+                log.warn("⚠️ could not notify the COMMENT-SERVICE of the access change of project {{}}: {} ⚠️", projectId, e.getMessage());
+            }
+        });
+    }
+
+
+    /**
+     * Notifies the access change of many projects with one call per service.
+     */
+    public void projectsAccessChanged(Collection<Long> projectIds) {
+        if (projectIds.isEmpty())
+            return;
+        List<Long> changed = List.copyOf(projectIds);
+        runAfterCommit(() -> {
+            try {
+                taskFeignClient.evictProjectsAccess(changed);
+            } catch (Exception e) {
+                log.warn("⚠️ could not notify the TASK-SERVICE of the access change of {} projects: {} ⚠️", changed.size(), e.getMessage());
+            }
+            try {
+                commentFeignClient.evictProjectsAccess(changed);
+            } catch (Exception e) {
+                log.warn("⚠️ could not notify the COMMENT-SERVICE of the access change of {} projects: {} ⚠️", changed.size(), e.getMessage());
+            }
+        });
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.gl.hive.ProjectService.util;
+
+import com.gl.hive.ProjectService.repository.ProjectBurndownRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Appends the daily burndown of every project from the task counters kept on {@code Project},
+ * so the time series is built without reading the tasks.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectBurndownRecorder {
+
+    private final ProjectBurndownRepository projectBurndownRepository;
+
+    @Scheduled(cron = "${project.burndown.cron:0 55 23 * * *}")
+    public void recordToday() {
+        try {
+            int recorded = projectBurndownRepository.recordDay(LocalDate.now());
+            log.info("✅ recorded the burndown of {} projects ✅", recorded);
+        } catch (Exception e) {
+            log.warn("⚠️ could not record the burndown of today: {} ⚠️", e.getMessage());
+        }
+    }
+
+}
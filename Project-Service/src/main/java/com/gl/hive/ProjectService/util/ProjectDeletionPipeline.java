@@ -0,0 +1,142 @@
+package com.gl.hive.ProjectService.util;
+
+import com.gl.hive.ProjectService.feign.client.CommentFeignClient;
+import com.gl.hive.ProjectService.feign.client.TaskFeignClient;
+import com.gl.hive.ProjectService.model.entity.ProjectDeletion;
+import com.gl.hive.ProjectService.model.entity.ProjectDeletion.Stage;
+import com.gl.hive.ProjectService.repository.ProjectBurndownRepository;
+import com.gl.hive.ProjectService.repository.ProjectDeletionRepository;
+import com.gl.hive.ProjectService.repository.ProjectMembersRepository;
+import com.gl.hive.ProjectService.repository.ProjectRepository;
+import com.gl.hive.ProjectService.repository.UserProjectRoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Purges the dependents of the tombstoned projects in the background.
+ * <p>
+ * Every batch is deleted in its own short transaction (remote or local) and the progress is saved after it, so a large
+ * project never holds a long transaction, and the pending deletions are resumed from their saved stage after a restart.
+ * A failed deletion is retried with an exponential backoff from its last failure, and is parked as {@link Stage#FAILED}
+ * once it has failed {@value #MAX_ATTEMPTS} times, so a project that cannot be purged does not hammer the other services
+ * on every run.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectDeletionPipeline {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(30);
+
+    private final ProjectDeletionRepository projectDeletionRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMembersRepository projectMembersRepository;
+    private final UserProjectRoleRepository userProjectRoleRepository;
+    private final ProjectBurndownRepository projectBurndownRepository;
+    private final TaskFeignClient taskFeignClient;
+    private final CommentFeignClient commentFeignClient;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${project.deletion.poll-interval:PT10S}",
+            fixedDelayString = "${project.deletion.poll-interval:PT10S}"
+    )
+    public void processPendingDeletions() {
+        LocalDateTime now = LocalDateTime.now();
+        for (ProjectDeletion deletion : projectDeletionRepository.findByStageNotInOrderByRequestedAt(List.of(Stage.DONE, Stage.FAILED))) {
+            if (isBackingOff(deletion, now))
+                continue;
+            try {
+                process(deletion);
+                log.info("✅ project {{}} deleted: {} tasks, {} comments and {} members purged ✅",
+                        deletion.getProjectId(), deletion.getPurgedTasks(), deletion.getPurgedComments(), deletion.getPurgedMembers());
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.info("the deletion of project {{}} is being processed by another instance", deletion.getProjectId());
+            } catch (Exception e) {
+                log.warn("⚠️ the deletion of project {{}} stopped at stage {}: {} ⚠️", deletion.getProjectId(), deletion.getStage(), e.getMessage());
+                ProjectDeletion failed = projectDeletionRepository.findById(deletion.getProjectId()).orElse(null);
+                if (failed != null) {
+                    failed.setFailedAttempts(failed.getFailedAttempts() + 1);
+                    failed.setLastError(truncate(e.getMessage()));
+                    failed.setUpdatedAt(LocalDateTime.now());
+                    if (failed.getFailedAttempts() >= MAX_ATTEMPTS) {
+                        log.error("❌ the deletion of project {{}} failed {} times and is parked at stage {} ❌",
+                                failed.getProjectId(), failed.getFailedAttempts(), failed.getStage());
+                        failed.setFailedStage(failed.getStage());
+                        failed.setStage(Stage.FAILED);
+                    }
+                    projectDeletionRepository.save(failed);
+                }
+            }
+        }
+    }
+
+
+    private void process(ProjectDeletion deletion) {
+        long projectId = deletion.getProjectId();
+        while (deletion.getStage() != Stage.DONE) {
+            switch (deletion.getStage()) {
+                case TASKS -> {
+                    int purged = taskFeignClient.purgeTasksOfProject(projectId, BATCH_SIZE);
+                    deletion.setPurgedTasks(deletion.getPurgedTasks() + purged);
+                    if (purged == 0) deletion.setStage(Stage.COMMENTS);
+                }
+                case COMMENTS -> {
+                    int purged = commentFeignClient.purgeCommentsOfProject(projectId, BATCH_SIZE);
+                    deletion.setPurgedComments(deletion.getPurgedComments() + purged);
+                    if (purged == 0) deletion.setStage(Stage.MEMBERS);
+                }
+                case MEMBERS -> {
+                    int purged = projectMembersRepository.purgeBatchByProjectId(projectId, BATCH_SIZE);
+                    deletion.setPurgedMembers(deletion.getPurgedMembers() + purged);
+                    if (purged == 0
+                            && userProjectRoleRepository.purgeBatchByProjectId(projectId, BATCH_SIZE) == 0
+                            && projectBurndownRepository.purgeBatchByProjectId(projectId, BATCH_SIZE) == 0)
+                        deletion.setStage(Stage.PROJECT);
+                }
+                case PROJECT -> {
+                    projectRepository.purgeById(projectId);
+                    deletion.setStage(Stage.DONE);
+                    deletion.setCompletedAt(LocalDateTime.now());
+                }
+                default -> throw new IllegalStateException("Unexpected stage: " + deletion.getStage());
+            }
+            deletion.setUpdatedAt(LocalDateTime.now());
+            deletion = projectDeletionRepository.save(deletion);
+        }
+    }
+
+
+    /**
+     * Whether the deletion failed recently and waits before its next attempt: 10 seconds after the first failure,
+     * doubled after each one, at most 30 minutes.
+     */
+    private static boolean isBackingOff(ProjectDeletion deletion, LocalDateTime now) {
+        if (deletion.getFailedAttempts() == 0 || deletion.getUpdatedAt() == null)
+            return false;
+        Duration backoff = RETRY_BACKOFF.multipliedBy(1L << Math.min(deletion.getFailedAttempts() - 1, 20));
+        if (backoff.compareTo(MAX_RETRY_BACKOFF) > 0)
+            backoff = MAX_RETRY_BACKOFF;
+        return now.isBefore(deletion.getUpdatedAt().plus(backoff));
+    }
+
+
+    private static String truncate(String message) {
+        if (message == null) return null;
+        return message.length() > 1_000 ? message.substring(0, 1_000) : message;
+    }
+
+}
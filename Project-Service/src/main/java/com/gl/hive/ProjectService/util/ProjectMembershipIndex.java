@@ -0,0 +1,211 @@
+package com.gl.hive.ProjectService.util;
+
+import com.gl.hive.ProjectService.repository.ProjectMembersRepository;
+import com.gl.hive.ProjectService.repository.ProjectRepository;
+import com.gl.hive.ProjectService.repository.UserProjectRoleRepository;
+import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import com.gl.hive.shared.lib.model.dto.ProjectAccessDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.gl.hive.ProjectService.util.TransactionUtils.runAfterCommit;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * In-memory index of the members and the leaders/admins of every project, for answering the authorization checks
+ * of the other services without a db query or a call to the AUTHENTICATION-SERVICE.
+ * <p>
+ * The user ids of a project are kept as sorted {@code long[]} arrays which are replaced (never mutated) on every
+ * membership change, so the checks are lock-free binary searches. The index is rebuilt from the db at startup;
+ * changes made inside a transaction are applied after it commits.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectMembershipIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMembersRepository projectMembersRepository;
+    private final UserProjectRoleRepository userProjectRoleRepository;
+
+    private final Map<Long, ProjectAccess> projects = new ConcurrentHashMap<>();
+
+
+    /**
+     * The user ids with access to a project, each array sorted, and the dates of the project.
+     */
+    private record ProjectAccess(long[] memberIds, long[] leaderIds, LocalDate startDate, LocalDate endDate) {
+
+        ProjectAccess withMemberIds(long[] memberIds) {
+            return new ProjectAccess(memberIds, leaderIds, startDate, endDate);
+        }
+
+        boolean isActive() {
+            if (startDate == null || endDate == null) return false;
+            LocalDate today = LocalDate.now();
+            return (!today.isBefore(startDate)) && (!today.isAfter(endDate));
+        }
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, long[]> members = groupUserIdsByProjectId(projectMembersRepository.findAllProjectAndUserIds());
+        Map<Long, long[]> leaders = groupUserIdsByProjectId(userProjectRoleRepository.findAllProjectAndUserIds());
+
+        Map<Long, ProjectAccess> rebuilt = new HashMap<>();
+        for (Object[] row : projectRepository.findAllProjectIdsAndDates()) {
+            Long projectId = (Long) row[0];
+            rebuilt.put(projectId, new ProjectAccess(
+                    members.getOrDefault(projectId, EMPTY),
+                    leaders.getOrDefault(projectId, EMPTY),
+                    (LocalDate) row[1],
+                    (LocalDate) row[2]
+            ));
+        }
+
+        projects.clear();
+        projects.putAll(rebuilt);
+        log.info("✅ Project membership index built with {} projects ✅", projects.size());
+    }
+
+
+    /**
+     * Checks if the user is a member of the project.
+     *
+     * @throws ResourceNotFoundException if the project is not found
+     */
+    public boolean isMember(long projectId, long userId) {
+        return Arrays.binarySearch(getProjectAccess(projectId).memberIds(), userId) >= 0;
+    }
+
+
+    /**
+     * Returns the users among the given ones that are members of the project, in the given order.
+     *
+     * @throws ResourceNotFoundException if the project is not found
+     */
+    public List<Long> filterMembers(long projectId, Collection<Long> userIds) {
+        long[] memberIds = getProjectAccess(projectId).memberIds();
+        return userIds.stream()
+                .filter(userId -> userId != null && Arrays.binarySearch(memberIds, userId) >= 0)
+                .toList();
+    }
+
+
+    /**
+     * Checks if the user is the leader or an admin of the project.
+     *
+     * @throws ResourceNotFoundException if the project is not found
+     */
+    public boolean isLeaderOrAdmin(long projectId, long userId) {
+        return Arrays.binarySearch(getProjectAccess(projectId).leaderIds(), userId) >= 0;
+    }
+
+
+    /**
+     * Returns the whole decision of the user on the project; unlike the other checks it doesn't throw for unknown projects.
+     */
+    public ProjectAccessDTO getAccess(long projectId, long userId) {
+        ProjectAccess access = projects.get(projectId);
+        return ProjectAccessDTO.builder()
+                .projectId(projectId)
+                .userId(userId)
+                .projectExists(access != null)
+                .member(access != null && Arrays.binarySearch(access.memberIds(), userId) >= 0)
+                .leaderOrAdmin(access != null && Arrays.binarySearch(access.leaderIds(), userId) >= 0)
+                .projectActive(access != null && access.isActive())
+                .build();
+    }
+
+
+    public void projectCreated(long projectId, long leaderId, LocalDate startDate, LocalDate endDate) {
+        runAfterCommit(() -> projects.put(projectId, new ProjectAccess(new long[]{leaderId}, new long[]{leaderId}, startDate, endDate)));
+    }
+
+
+    public void projectUpdated(long projectId, LocalDate startDate, LocalDate endDate) {
+        runAfterCommit(() -> projects.computeIfPresent(projectId, (id, access) ->
+                new ProjectAccess(access.memberIds(), access.leaderIds(), startDate, endDate)
+        ));
+    }
+
+
+    public void projectRemoved(long projectId) {
+        runAfterCommit(() -> projects.remove(projectId));
+    }
+
+
+    public void memberAdded(long projectId, long userId) {
+        membersAdded(projectId, List.of(userId));
+    }
+
+
+    public void membersAdded(long projectId, Collection<Long> userIds) {
+        long[] addedIds = userIds.stream().mapToLong(Long::longValue).toArray();
+        runAfterCommit(() -> projects.computeIfPresent(projectId, (id, access) ->
+                access.withMemberIds(union(access.memberIds(), addedIds))
+        ));
+    }
+
+
+    public void memberRemoved(long projectId, long userId) {
+        membersRemoved(projectId, List.of(userId));
+    }
+
+
+    public void membersRemoved(long projectId, Collection<Long> userIds) {
+        Set<Long> removedIds = Set.copyOf(userIds);
+        runAfterCommit(() -> projects.computeIfPresent(projectId, (id, access) ->
+                access.withMemberIds(Arrays.stream(access.memberIds()).filter(memberId -> !removedIds.contains(memberId)).toArray())
+        ));
+    }
+
+
+    private ProjectAccess getProjectAccess(long projectId) {
+        ProjectAccess access = projects.get(projectId);
+        if (access == null) {
+            log.error("😖 huh... it seems the project with {{}} wasn't found in the db 😖", projectId);
+            throw new ResourceNotFoundException(
+                    "😖 huh... it seems the project with {{" + projectId + "}} wasn't found in the db 😖",
+                    NOT_FOUND,
+                    NOT_FOUND.value()
+            );
+        }
+        return access;
+    }
+
+
+    private static Map<Long, long[]> groupUserIdsByProjectId(List<Object[]> rows) {
+        return rows.stream().collect(Collectors.groupingBy(
+                row -> (Long) row[0],
+                Collectors.collectingAndThen(
+                        Collectors.toList(),
+                        projectRows -> projectRows.stream().mapToLong(row -> (Long) row[1]).sorted().distinct().toArray()
+                )
+        ));
+    }
+
+
+    private static long[] union(long[] ids, long[] otherIds) {
+        long[] merged = Arrays.copyOf(ids, ids.length + otherIds.length);
+        System.arraycopy(otherIds, 0, merged, ids.length, otherIds.length);
+        return Arrays.stream(merged).sorted().distinct().toArray();
+    }
+
+}
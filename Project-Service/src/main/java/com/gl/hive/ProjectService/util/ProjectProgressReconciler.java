@@ -0,0 +1,64 @@
+package com.gl.hive.ProjectService.util;
+
+import com.gl.hive.ProjectService.feign.client.TaskFeignClient;
+import com.gl.hive.ProjectService.repository.ProjectRepository;
+import com.gl.hive.shared.lib.model.dto.TaskCountsDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically recounts the task counters of every project from the TASK-SERVICE.
+ * <p>
+ * The counters are kept up to date by the task events, which are best-effort; this corrects the events that were lost,
+ * and the tasks that became overdue by passing their due date without being changed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectProgressReconciler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+    private final TaskFeignClient taskFeignClient;
+
+    @Scheduled(
+            initialDelayString = "${project.progress.reconcile-initial-delay:PT1M}",
+            fixedDelayString = "${project.progress.reconcile-interval:PT15M}"
+    )
+    public void reconcile() {
+        long cursor = 0;
+        int reconciled = 0;
+        try {
+            List<Long> batch;
+            do {
+                batch = projectRepository.findProjectIdsAfter(cursor, PageRequest.of(0, BATCH_SIZE));
+                if (batch.isEmpty())
+                    break;
+
+                Map<Long, TaskCountsDTO> counts = taskFeignClient.getTaskCounts(batch);
+                for (Long projectId : batch) {
+                    TaskCountsDTO count = counts.get(projectId);
+                    if (count == null)
+                        continue;
+                    int total = (int) count.getTotal();
+                    int completed = (int) count.getCompleted();
+                    int progress = total > 0 ? completed * 100 / total : 0;
+                    projectRepository.setTaskCounts(projectId, total, completed, (int) count.getOverdue(), progress);
+                }
+                reconciled += batch.size();
+                cursor = batch.get(batch.size() - 1);
+            } while (batch.size() == BATCH_SIZE);
+            log.info("✅ reconciled the task counters of {} projects ✅", reconciled);
+        } catch (Exception e) {
+            log.warn("⚠️ could not reconcile the task counters after {} projects: {} ⚠️", reconciled, e.getMessage());
+        }
+    }
+
+}
@@ -6,7 +6,9 @@ import com.gl.hive.shared.lib.exceptions.ResourceAlreadyExistsException;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Utility interface for checking user-project relationships.
@@ -43,5 +45,31 @@ public interface ProjectUtils {
      */
     List<UserMembersDto> getUserDtoList(Project project);
 
+
+    /**
+     * Returns the members of many projects at once, fetching the user data of all of them in a single call.
+     *
+     * @param projects The projects to get the members for.
+     * @return The members of each project, keyed by projectId.
+     */
+    Map<Long, List<UserMembersDto>> getUserDtoLists(Collection<Project> projects);
+
+
+    /**
+     * Returns the users with the given ids, fetched in a single call.
+     *
+     * @param userIds The ids of the users.
+     * @return The found users, keyed by userId.
+     */
+    Map<Long, UserDTO> getUserDTOs(Collection<Long> userIds);
+
+
+    /**
+     * Evicts the cached members of the project; to be called whenever its members change.
+     *
+     * @param projectId The project whose members changed.
+     */
+    void evictUserDtoList(Long projectId);
+
 }
 
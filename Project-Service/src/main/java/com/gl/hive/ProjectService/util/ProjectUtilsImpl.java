@@ -12,12 +12,17 @@ import com.gl.hive.shared.lib.model.dto.UserDTO;
 import com.gl.hive.shared.lib.model.enums.Role;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.gl.hive.ProjectService.util.TransactionUtils.runAfterCommit;
 
 /**
  * Primary implementation of ProjectUtils for regular project membership checks.
@@ -28,10 +33,21 @@ import java.util.Optional;
 @Slf4j
 public class ProjectUtilsImpl implements ProjectUtils {
 
+    private static final int MAX_CACHED_PROJECTS = 10_000;
+
     private final UserProjectRoleRepository userProjectRoleRepository;
     private final ProjectMembersRepository projectMembersRepository;
     private final AuthUserFeignClient authUserFeignClient;
 
+    @Value("${project.members-cache.ttl:PT5M}")
+    private Duration membersCacheTtl;
+
+    /* projectId -> the members of the project, evicted on membership changes; expired entries are purged once it is full */
+    private final Map<Long, CachedMembers> membersCache = new ConcurrentHashMap<>();
+
+    private record CachedMembers(List<UserMembersDto> members, long expiresAt) {
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -72,36 +88,97 @@ public class ProjectUtilsImpl implements ProjectUtils {
      */
     @Override
     public List<UserMembersDto> getUserDtoList(Project project) {
-        // Get only active project members associated with the given project
-        List<ProjectMembers> members = projectMembersRepository.findByProjectAndActiveTrue(project);
-
-        // Create a list of UserDto objects for the project members, excluding PROJECT_LEADERs
-        ArrayList<UserMembersDto> userDtos = new ArrayList<>();
-        for (ProjectMembers projectMembers : members) {
-            // Skip if this is the project leader
-            if (projectMembers.getUserId().equals(project.getLeaderId())) {
-                continue;
-            }
-
-            UserDTO memberUserDTO = authUserFeignClient.getUserDTOById(projectMembers.getUserId());
-
-            // Skip if user has PROJECT_LEADER role
-            boolean isProjectLeader = memberUserDTO.getRoles().stream()
-                    .anyMatch(role -> role.getRole().name().equals("PROJECT_LEADER") || 
-                                    role.getRole().name().equals("ROLE_PROJECT_LEADER"));
-            if (isProjectLeader) {
-                continue;
-            }
-
-            UserMembersDto userDto = UserMembersDto.builder()
-                    .userId(memberUserDTO.getUserId())
-                    .username(memberUserDTO.getUsername())
-                    .role(memberUserDTO.getRoles()
-                            .stream().map(roles -> roles.getRole().name()).toList()
-                    ).build();
-            userDtos.add(userDto);
+        return getUserDtoLists(List.of(project)).getOrDefault(project.getProjectId(), List.of());
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Long, List<UserMembersDto>> getUserDtoLists(Collection<Project> projects) {
+        Map<Long, List<UserMembersDto>> userDtoLists = new HashMap<>();
+
+        // 1. Serve the projects whose members are cached
+        long now = System.nanoTime();
+        List<Project> uncachedProjects = new ArrayList<>();
+        for (Project project : projects) {
+            CachedMembers cached = membersCache.get(project.getProjectId());
+            if (cached != null && now - cached.expiresAt() < 0)
+                userDtoLists.put(project.getProjectId(), cached.members());
+            else
+                uncachedProjects.add(project);
         }
-        return userDtos;
+        if (uncachedProjects.isEmpty())
+            return userDtoLists;
+
+        // 2. Find the active members of the rest of the projects, excluding the leaders of each project
+        List<Long> projectIds = uncachedProjects.stream().map(Project::getProjectId).toList();
+        Map<Long, Set<Long>> leaderIds = groupUserIdsByProjectId(userProjectRoleRepository.findProjectAndUserIdsByProjectIdIn(projectIds));
+        Map<Long, Set<Long>> memberIds = groupUserIdsByProjectId(projectMembersRepository.findActiveProjectAndUserIdsByProjectIdIn(projectIds));
+        for (Project project : uncachedProjects) {
+            Set<Long> members = memberIds.getOrDefault(project.getProjectId(), new LinkedHashSet<>());
+            members.remove(project.getLeaderId());
+            members.removeAll(leaderIds.getOrDefault(project.getProjectId(), Set.of()));
+            memberIds.put(project.getProjectId(), members);
+        }
+
+        // 3. Fetch the user data of all the members of all the projects in one call
+        Set<Long> allMemberIds = new HashSet<>();
+        memberIds.values().forEach(allMemberIds::addAll);
+        Map<Long, UserDTO> users = getUserDTOs(allMemberIds);
+
+        // 4. Build and cache the members of each project
+        if (membersCache.size() + uncachedProjects.size() > MAX_CACHED_PROJECTS)
+            membersCache.values().removeIf(cached -> now - cached.expiresAt() >= 0);
+        long expiresAt = System.nanoTime() + membersCacheTtl.toNanos();
+        for (Project project : uncachedProjects) {
+            List<UserMembersDto> members = memberIds.get(project.getProjectId()).stream()
+                    .map(users::get)
+                    .filter(Objects::nonNull)
+                    .map(memberUserDTO -> UserMembersDto.builder()
+                            .userId(memberUserDTO.getUserId())
+                            .username(memberUserDTO.getUsername())
+                            .role(memberUserDTO.getRoles()
+                                    .stream().map(roles -> roles.getRole().name()).toList()
+                            ).build()
+                    ).toList();
+            if (membersCache.size() < MAX_CACHED_PROJECTS)
+                membersCache.put(project.getProjectId(), new CachedMembers(members, expiresAt));
+            userDtoLists.put(project.getProjectId(), members);
+        }
+        return userDtoLists;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Long, UserDTO> getUserDTOs(Collection<Long> userIds) {
+        if (userIds.isEmpty())
+            return Map.of();
+
+        return authUserFeignClient.getUserDTOsByIds(new HashSet<>(userIds))
+                .stream()
+                .collect(Collectors.toMap(UserDTO::getUserId, Function.identity(), (first, second) -> first));
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evictUserDtoList(Long projectId) {
+        runAfterCommit(() -> membersCache.remove(projectId));
+    }
+
+
+    private static Map<Long, Set<Long>> groupUserIdsByProjectId(List<Object[]> rows) {
+        return rows.stream().collect(Collectors.groupingBy(
+                row -> (Long) row[0],
+                Collectors.mapping(row -> (Long) row[1], Collectors.toCollection(LinkedHashSet::new))
+        ));
     }
 
 }
@@ -0,0 +1,55 @@
+package com.gl.hive.ProjectService.util;
+
+import com.gl.hive.ProjectService.feign.client.AuthUserFeignClient;
+import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import com.gl.hive.shared.lib.model.enums.Role;
+import com.gl.hive.shared.lib.registry.ReferenceDataRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * Resolves roles and departments IDs locally from a {@link ReferenceDataRegistry} which is fetched
+ * once from the AUTHENTICATION-SERVICE, instead of calling it on every request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataUtils {
+
+    private final AuthUserFeignClient authUserFeignClient;
+
+    private volatile ReferenceDataRegistry registry;
+
+    /**
+     * Returns the ID of the given role.
+     *
+     * @param role the role that we want its ID
+     * @return the ID of the role
+     * @throws ResourceNotFoundException if the role was not found
+     */
+    public Long getRoleId(Role role) {
+        Long roleId = getRegistry().getRoleId(role);
+        if (roleId == null) {
+            log.error("😖 huh... it seems we don't have roles with {} in our db 😖", role);
+            throw new ResourceNotFoundException("Role with " + role + " role was not found", NOT_FOUND, NOT_FOUND.value());
+        }
+        return roleId;
+    }
+
+
+    private ReferenceDataRegistry getRegistry() {
+        if (registry == null) {
+            synchronized (this) {
+                if (registry == null) {
+                    registry = ReferenceDataRegistry.of(authUserFeignClient.getReferenceData());
+                    log.info("✅ Reference data fetched from AUTHENTICATION-SERVICE ✅");
+                }
+            }
+        }
+        return registry;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.gl.hive.ProjectService.util;
+
+import com.gl.hive.shared.lib.model.dto.ProjectDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.gl.hive.ProjectService.util.TransactionUtils.runAfterCommit;
+
+/**
+ * Per-user cache of the active project and the first page of completed projects, served to the home screen on every login.
+ * <p>
+ * The entries of a user are evicted when their memberships change; changes to the projects themselves
+ * (e.g. the progress) show up within one TTL.
+ */
+@Service
+public class UserProjectsCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    @Value("${project.user-projects-cache.ttl:PT1M}")
+    private Duration ttl;
+
+    /* userId -> the active project of the user, null if none */
+    private final Map<Long, Entry<ProjectDTO>> activeProjects = new ConcurrentHashMap<>();
+    /* userId -> the first page of completed projects of the user */
+    private final Map<Long, Entry<List<ProjectDTO>>> completedProjects = new ConcurrentHashMap<>();
+
+    private record Entry<T>(T value, long expiresAt) {
+    }
+
+
+    public ProjectDTO getActiveProject(long userId, Supplier<ProjectDTO> loader) {
+        return get(activeProjects, userId, loader);
+    }
+
+
+    public List<ProjectDTO> getCompletedProjects(long userId, Supplier<List<ProjectDTO>> loader) {
+        return get(completedProjects, userId, loader);
+    }
+
+
+    /**
+     * Evicts the entries of the user once the current transaction commits.
+     */
+    public void evictUser(Long userId) {
+        runAfterCommit(() -> {
+            activeProjects.remove(userId);
+            completedProjects.remove(userId);
+        });
+    }
+
+
+    public void evictUsers(Collection<Long> userIds) {
+        List<Long> copy = List.copyOf(userIds);
+        runAfterCommit(() -> copy.forEach(userId -> {
+            activeProjects.remove(userId);
+            completedProjects.remove(userId);
+        }));
+    }
+
+
+    /**
+     * Evicts every entry once the current transaction commits; used when the affected users are not known.
+     */
+    public void evictAll() {
+        runAfterCommit(() -> {
+            activeProjects.clear();
+            completedProjects.clear();
+        });
+    }
+
+
+    private <T> T get(Map<Long, Entry<T>> entries, long userId, Supplier<T> loader) {
+        long now = System.nanoTime();
+        Entry<T> entry = entries.get(userId);
+        if (entry != null && now - entry.expiresAt() < 0)
+            return entry.value();
+
+        T value = loader.get();
+        if (entries.size() >= MAX_ENTRIES)
+            entries.values().removeIf(e -> now - e.expiresAt() >= 0);
+        if (entries.size() < MAX_ENTRIES)
+            entries.put(userId, new Entry<>(value, now + ttl.toNanos()));
+        return value;
+    }
+
+}
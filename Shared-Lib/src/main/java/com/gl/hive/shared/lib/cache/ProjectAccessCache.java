@@ -0,0 +1,63 @@
+package com.gl.hive.shared.lib.cache;
+
+import com.gl.hive.shared.lib.model.dto.ProjectAccessDTO;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of the {@link ProjectAccessDTO} decisions fetched from the PROJECT-SERVICE.
+ * <p>
+ * Entries expire after the TTL and all the entries of a project are evicted when the PROJECT-SERVICE
+ * notifies a membership change, so a stale decision lives at most one TTL on instances that missed the notification.
+ */
+public final class ProjectAccessCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Loader loader;
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+
+    @FunctionalInterface
+    public interface Loader {
+        ProjectAccessDTO load(long projectId, long userId);
+    }
+
+    private record Key(long projectId, long userId) {
+    }
+
+    private record Entry(ProjectAccessDTO access, long expiresAt) {
+    }
+
+
+    public ProjectAccessCache(Loader loader, Duration ttl) {
+        this.loader = loader;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+
+    public ProjectAccessDTO get(long projectId, long userId) {
+        Key key = new Key(projectId, userId);
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.expiresAt() < 0)
+            return entry.access();
+
+        ProjectAccessDTO access = loader.load(projectId, userId);
+        if (entries.size() >= MAX_ENTRIES)
+            entries.values().removeIf(e -> now - e.expiresAt() >= 0);
+        if (entries.size() < MAX_ENTRIES)
+            entries.put(key, new Entry(access, now + ttlNanos));
+        return access;
+    }
+
+
+    public void evictProject(long projectId) {
+        entries.keySet().removeIf(key -> key.projectId() == projectId);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.gl.hive.shared.lib.cache;
+
+import com.gl.hive.shared.lib.model.dto.ProjectDTO;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of the {@link ProjectDTO}s fetched from the PROJECT-SERVICE, resolving all the projects
+ * of a result set with one call for the ones that are not cached.
+ * <p>
+ * Entries expire after the TTL and are evicted when the PROJECT-SERVICE notifies a change of the project. The projects
+ * that do not exist, such as deleted ones, are cached too, for the shorter {@code missingTtl}, so the tasks of a deleted
+ * project don't make one call each.
+ */
+public final class ProjectDTOCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final BulkLoader loader;
+    private final long ttlNanos;
+    private final long missingTtlNanos;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+
+    @FunctionalInterface
+    public interface BulkLoader {
+        List<ProjectDTO> load(Collection<Long> projectIds);
+    }
+
+    /* a null project marks a project that does not exist */
+    private record Entry(ProjectDTO project, long expiresAt) {
+    }
+
+
+    public ProjectDTOCache(BulkLoader loader, Duration ttl, Duration missingTtl) {
+        this.loader = loader;
+        this.ttlNanos = ttl.toNanos();
+        this.missingTtlNanos = missingTtl.toNanos();
+    }
+
+
+    /**
+     * @return the project, or {@code null} if it does not exist
+     */
+    public ProjectDTO get(long projectId) {
+        return getAll(List.of(projectId)).get(projectId);
+    }
+
+
+    /**
+     * @return the projects keyed by their ID; the projects that do not exist are missing from the map
+     */
+    public Map<Long, ProjectDTO> getAll(Collection<Long> projectIds) {
+        Map<Long, ProjectDTO> projects = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        long now = System.nanoTime();
+
+        for (Long projectId : projectIds) {
+            if (projectId == null) continue;
+            Entry entry = entries.get(projectId);
+            if (entry == null || now - entry.expiresAt() >= 0)
+                missing.add(projectId);
+            else if (entry.project() != null)
+                projects.put(projectId, entry.project());
+        }
+        if (missing.isEmpty())
+            return projects;
+
+        List<ProjectDTO> loaded = loader.load(missing);
+        if (entries.size() + missing.size() > MAX_ENTRIES)
+            entries.values().removeIf(e -> now - e.expiresAt() >= 0);
+        for (ProjectDTO project : loaded) {
+            projects.put(project.getProjectId(), project);
+            missing.remove(project.getProjectId());
+            cache(project.getProjectId(), new Entry(project, now + ttlNanos));
+        }
+        for (Long projectId : missing)
+            cache(projectId, new Entry(null, now + missingTtlNanos));
+        return projects;
+    }
+
+
+    public void evictProject(long projectId) {
+        entries.remove(projectId);
+    }
+
+
+    private void cache(long projectId, Entry entry) {
+        if (entries.size() < MAX_ENTRIES)
+            entries.put(projectId, entry);
+    }
+
+}
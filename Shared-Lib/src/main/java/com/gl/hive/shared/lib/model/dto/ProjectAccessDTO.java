@@ -0,0 +1,25 @@
+package com.gl.hive.shared.lib.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The authorization decision of a user on a project, answered by the PROJECT-SERVICE in a single call.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectAccessDTO {
+
+    private long projectId;
+    private long userId;
+
+    private boolean projectExists;
+    private boolean member;
+    private boolean leaderOrAdmin;
+    private boolean projectActive;
+
+}
@@ -0,0 +1,27 @@
+package com.gl.hive.shared.lib.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The comments of a single project as returned by the batch comment endpoint.
+ * {@code comments} holds at most the requested number of the latest comments and is empty when only counts were requested.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectCommentsDTO {
+
+    private long projectId;
+    private long commentCount;
+
+    @Builder.Default
+    private List<CommentDTO> comments = new ArrayList<>();
+
+}
@@ -0,0 +1,24 @@
+package com.gl.hive.shared.lib.model.dto;
+
+import com.gl.hive.shared.lib.model.enums.Department;
+import com.gl.hive.shared.lib.model.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReferenceDataDTO {
+
+    @Builder.Default
+    private Map<Role, Long> roleIds = new EnumMap<>(Role.class);
+    @Builder.Default
+    private Map<Department, Long> departmentIds = new EnumMap<>(Department.class);
+
+}
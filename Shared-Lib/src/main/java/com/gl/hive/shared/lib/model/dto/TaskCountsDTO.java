@@ -0,0 +1,23 @@
+package com.gl.hive.shared.lib.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The task counters of a project; cancelled tasks are not counted.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskCountsDTO {
+
+    private long projectId;
+
+    private long total;
+    private long completed;
+    private long overdue;
+
+}
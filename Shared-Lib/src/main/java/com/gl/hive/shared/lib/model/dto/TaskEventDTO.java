@@ -0,0 +1,32 @@
+package com.gl.hive.shared.lib.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A task lifecycle event sent by the TASK-SERVICE to the PROJECT-SERVICE, carrying the change it makes
+ * to the task counters of the project so the progress can be updated without reading the tasks.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskEventDTO {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private Type type;
+    private long taskId;
+    private long projectId;
+
+    private int totalDelta;
+    private int completedDelta;
+    private int overdueDelta;
+
+}
@@ -0,0 +1,83 @@
+package com.gl.hive.shared.lib.registry;
+
+import com.gl.hive.shared.lib.model.dto.ReferenceDataDTO;
+import com.gl.hive.shared.lib.model.enums.Department;
+import com.gl.hive.shared.lib.model.enums.Role;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable lookup of the seeded {@link Role} and {@link Department} IDs.
+ * <p>
+ * The IDs are stored in arrays indexed by the enum's ordinal, so resolving a role or a department
+ * is a plain array access instead of a DB query or a remote call.
+ */
+public final class ReferenceDataRegistry {
+
+    private static final long MISSING = -1L;
+
+    private final long[] roleIds;
+    private final long[] departmentIds;
+
+    private ReferenceDataRegistry(long[] roleIds, long[] departmentIds) {
+        this.roleIds = roleIds;
+        this.departmentIds = departmentIds;
+    }
+
+    public static ReferenceDataRegistry of(Map<Role, Long> roleIds, Map<Department, Long> departmentIds) {
+        long[] roles = new long[Role.values().length];
+        long[] departments = new long[Department.values().length];
+        Arrays.fill(roles, MISSING);
+        Arrays.fill(departments, MISSING);
+
+        if (roleIds != null)
+            roleIds.forEach((role, id) -> roles[role.ordinal()] = id);
+        if (departmentIds != null)
+            departmentIds.forEach((department, id) -> departments[department.ordinal()] = id);
+
+        return new ReferenceDataRegistry(roles, departments);
+    }
+
+    public static ReferenceDataRegistry of(ReferenceDataDTO referenceDataDTO) {
+        return of(referenceDataDTO.getRoleIds(), referenceDataDTO.getDepartmentIds());
+    }
+
+    public boolean hasRole(Role role) {
+        return roleIds[role.ordinal()] != MISSING;
+    }
+
+    public boolean hasDepartment(Department department) {
+        return departmentIds[department.ordinal()] != MISSING;
+    }
+
+    /**
+     * @return the ID of the given role, or {@code null} if it was not seeded
+     */
+    public Long getRoleId(Role role) {
+        long roleId = roleIds[role.ordinal()];
+        return roleId == MISSING ? null : roleId;
+    }
+
+    /**
+     * @return the ID of the given department, or {@code null} if it was not seeded
+     */
+    public Long getDepartmentId(Department department) {
+        long departmentId = departmentIds[department.ordinal()];
+        return departmentId == MISSING ? null : departmentId;
+    }
+
+    public ReferenceDataDTO toDTO() {
+        Map<Role, Long> roles = new EnumMap<>(Role.class);
+        for (Role role : Role.values())
+            if (hasRole(role)) roles.put(role, roleIds[role.ordinal()]);
+
+        Map<Department, Long> departments = new EnumMap<>(Department.class);
+        for (Department department : Department.values())
+            if (hasDepartment(department)) departments.put(department, departmentIds[department.ordinal()]);
+
+        return new ReferenceDataDTO(roles, departments);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.gl.hive.shared.lib.cache;
+
+import com.gl.hive.shared.lib.model.dto.ProjectDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectDTOCacheTest {
+
+    private final List<Collection<Long>> loads = new ArrayList<>();
+
+    /* projects 1 and 2 exist, any other id does not */
+    private final ProjectDTOCache.BulkLoader loader = projectIds -> {
+        loads.add(List.copyOf(projectIds));
+        return projectIds.stream()
+                .filter(id -> id <= 2)
+                .map(id -> ProjectDTO.builder().projectId(id).projectName("project " + id).build())
+                .toList();
+    };
+
+    @Test
+    void loadsTheMissingProjectsWithOneCall() {
+        ProjectDTOCache cache = new ProjectDTOCache(loader, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        assertEquals(Set.of(1L, 2L), cache.getAll(List.of(1L, 2L, 3L)).keySet());
+        assertEquals(Set.of(1L, 2L), cache.getAll(List.of(1L, 2L, 3L)).keySet());
+
+        assertEquals(List.of(List.of(1L, 2L, 3L)), loads);
+    }
+
+    @Test
+    void cachesTheProjectsThatDoNotExist() {
+        ProjectDTOCache cache = new ProjectDTOCache(loader, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        assertNull(cache.get(3L));
+        assertNull(cache.get(3L));
+
+        assertEquals(1, loads.size());
+    }
+
+    @Test
+    void reloadsTheProjectsThatDidNotExistOnceTheirShorterTtlPassed() {
+        ProjectDTOCache cache = new ProjectDTOCache(loader, Duration.ofMinutes(1), Duration.ZERO);
+
+        cache.getAll(List.of(1L, 3L));
+        cache.getAll(List.of(1L, 3L));
+
+        assertEquals(List.of(List.of(1L, 3L), List.of(3L)), loads);
+    }
+
+    @Test
+    void reloadsAnEvictedProject() {
+        ProjectDTOCache cache = new ProjectDTOCache(loader, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        cache.get(1L);
+        cache.evictProject(1L);
+
+        assertEquals("project 1", cache.get(1L).getProjectName());
+        assertEquals(2, loads.size());
+    }
+
+}
@@ -1,8 +1,17 @@
 package com.gl.hive.TaskService.config;
 
+import com.gl.hive.TaskService.fegin.client.ProjectUtilFeignClient;
+import com.gl.hive.shared.lib.cache.ProjectAccessCache;
+import com.gl.hive.shared.lib.cache.ProjectDTOCache;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class TaskAppConfiguration {
@@ -12,4 +21,43 @@ public class TaskAppConfiguration {
         return new ModelMapper();
     }
 
+    @Bean
+    public ProjectAccessCache projectAccessCache(ProjectUtilFeignClient projectUtilFeignClient,
+                                                 @Value("${project.access-cache.ttl:PT30S}") Duration ttl) {
+        return new ProjectAccessCache(projectUtilFeignClient::getProjectAccess, ttl);
+    }
+
+    /* resolves the projects and users of the task responses concurrently; bounded so a burst of searches cannot exhaust threads */
+    @Bean
+    public ThreadPoolTaskExecutor taskEnrichmentExecutor(@Value("${task.enrichment.pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 16);
+        executor.setThreadNamePrefix("task-enrichment-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /* runs the background exports; few threads at the lowest priority and a bounded queue, so exports cannot starve the interactive requests */
+    @Bean
+    public ThreadPoolTaskExecutor taskExportExecutor(@Value("${task.export.pool-size:2}") int poolSize,
+                                                     @Value("${task.export.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.setThreadNamePrefix("task-export-");
+        return executor;
+    }
+
+    /* the tasks only show the name of their project, so only that is fetched */
+    @Bean
+    public ProjectDTOCache projectDTOCache(ProjectUtilFeignClient projectUtilFeignClient,
+                                           @Value("${project.dto-cache.ttl:PT1M}") Duration ttl,
+                                           @Value("${project.dto-cache.missing-ttl:PT10S}") Duration missingTtl) {
+        return new ProjectDTOCache(projectIds -> projectUtilFeignClient.getProjectDTOs(projectIds, List.of("projectName")), ttl, missingTtl);
+    }
+
 }
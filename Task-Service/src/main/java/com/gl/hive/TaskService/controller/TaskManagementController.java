@@ -1,9 +1,20 @@
 package com.gl.hive.TaskService.controller;
 
+import com.gl.hive.TaskService.model.entity.TaskExportJob;
+import com.gl.hive.TaskService.model.request.BulkTaskRequest;
+import com.gl.hive.TaskService.model.request.BulkTaskUpdateRequest;
 import com.gl.hive.TaskService.model.request.TaskRequest;
+import com.gl.hive.TaskService.model.response.BulkTaskResponse;
+import com.gl.hive.TaskService.model.response.BulkTaskUpdateResponse;
+import com.gl.hive.TaskService.model.response.TaskExportJobResponse;
 import com.gl.hive.TaskService.model.response.TaskResponse;
+import com.gl.hive.TaskService.model.response.TaskSearchResponse;
+import com.gl.hive.TaskService.repository.search.TaskSearchCriteria;
 import com.gl.hive.TaskService.service.interfaces.TaskManagementService;
-import com.gl.hive.TaskService.service.module.pdf.PDFEntityService;
+import com.gl.hive.TaskService.service.module.export.TaskExportDownloadForwarder;
+import com.gl.hive.TaskService.service.module.export.TaskExportFormat;
+import com.gl.hive.TaskService.service.module.export.TaskExportJobService;
+import com.gl.hive.TaskService.service.module.export.TaskExportService;
 import com.gl.hive.shared.lib.exceptions.NotLeaderOfProjectException;
 import com.gl.hive.shared.lib.exceptions.NotMemberOfProjectException;
 import com.gl.hive.shared.lib.exceptions.ResourceAlreadyExistsException;
@@ -12,19 +23,24 @@ import com.gl.hive.shared.lib.model.enums.Role;
 import com.gl.hive.shared.lib.model.enums.TaskPriority;
 import com.gl.hive.shared.lib.model.enums.TaskStatus;
 import com.gl.hive.shared.lib.model.response.MapResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 
 /**
@@ -36,7 +52,13 @@ import java.util.List;
 public class TaskManagementController {
 
     private final TaskManagementService taskService;
-    private final PDFEntityService pdfEntityService;
+    private final TaskExportService taskExportService;
+    private final TaskExportJobService taskExportJobService;
+    private final TaskExportDownloadForwarder taskExportDownloadForwarder;
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final int MAX_SEARCH_PAGE_SIZE = 500;
 
     /**
      * Creates a new task for the specified project.
@@ -54,6 +76,22 @@ public class TaskManagementController {
     }
 
 
+    /**
+     * Creates many tasks for the specified project in one request, e.g. to import a backlog.
+     *
+     * @param projectId       the ID of the project that the tasks are being created for
+     * @param bulkTaskRequest the details of the tasks to create
+     * @return the result of each of the tasks as {@link BulkTaskResponse} and an HTTP status code
+     */
+    @PostMapping("/new-tasks/{projectId}")
+    public ResponseEntity<BulkTaskResponse> newTasks(
+            @PathVariable Long projectId,
+            @Valid @RequestBody BulkTaskRequest bulkTaskRequest
+    ) throws ResourceNotFoundException, NotMemberOfProjectException, NotLeaderOfProjectException {
+        return ResponseEntity.ok(taskService.createNewTasks(projectId, bulkTaskRequest.getTasks()));
+    }
+
+
     /**
      * Updates the details of an existing task.
      *
@@ -73,6 +111,25 @@ public class TaskManagementController {
     }
 
 
+    /**
+     * Applies the same changes (status, priority, due date) to many tasks of the project, e.g. to close out a sprint.
+     * The tasks are the listed ones, or else all the tasks of the project matching the filters.
+     *
+     * @param projectId the ID of the project of the tasks
+     * @param request   the tasks to update and the changes to apply
+     * @return the number of matched and updated tasks as {@link BulkTaskUpdateResponse}
+     * @throws NotMemberOfProjectException if the requesting user is not a member of the project
+     * @throws NotLeaderOfProjectException if the requesting user is not leader or admin of the project
+     */
+    @PatchMapping("/update-tasks/{projectId}")
+    public ResponseEntity<BulkTaskUpdateResponse> updateTasks(
+            @PathVariable Long projectId,
+            @Valid @RequestBody BulkTaskUpdateRequest request
+    ) throws ResourceNotFoundException, NotMemberOfProjectException, NotLeaderOfProjectException {
+        return ResponseEntity.ok(taskService.updateTasks(projectId, request));
+    }
+
+
     /**
      * Retrieves the details of a specific task by its ID.
      *
@@ -111,12 +168,19 @@ public class TaskManagementController {
 
 
     /**
-     * Searches for tasks based on different criteria.
+     * Searches for the tasks matching all of the given criteria, one keyset page at a time.
+     * When there are more tasks, the cursor of the next page is returned in the {@value #NEXT_CURSOR_HEADER} header,
+     * and the number of all the matching tasks in the {@value #TOTAL_COUNT_HEADER} header when {@code withTotal} is set.
      *
      * @param status            the status of the tasks to search for
      * @param priority          the priority of the tasks to search for
      * @param projectId         the ID of the project to search for tasks in
      * @param assignedTo_UserId the ID of the user the tasks are assigned to
+     * @param sortBy            the field to sort by, {@code TASK_ID} or {@code DUE_DATE}
+     * @param direction         the sort direction
+     * @param after             the cursor of the previous page
+     * @param size              the maximum number of tasks in the page, at most 500
+     * @param withTotal         whether to count all the matching tasks
      * @return a ResponseEntity containing a list of TaskResponse objects and an HTTP status code
      */
     @GetMapping("/searchTasks")
@@ -124,34 +188,49 @@ public class TaskManagementController {
             @RequestParam(value = "status", required = false) TaskStatus status,
             @RequestParam(value = "priority", required = false) TaskPriority priority,
             @RequestParam(value = "projectId", required = false) Long projectId,
-            @RequestParam(value = "assignedTo_UserId", required = false) Long assignedTo_UserId
+            @RequestParam(value = "assignedTo_UserId", required = false) Long assignedTo_UserId,
+            @RequestParam(value = "sortBy", defaultValue = "TASK_ID") TaskSearchCriteria.SortBy sortBy,
+            @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "100") int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal
     ) {
-        return ResponseEntity.ok(taskService.searchTaskBasedOnDifferentCriteria(status, priority, projectId, assignedTo_UserId));
+        TaskSearchResponse page = taskService.searchTaskBasedOnDifferentCriteria(
+                new TaskSearchCriteria(status, priority, projectId, assignedTo_UserId),
+                sortBy, direction, after, Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE)), withTotal
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        if (page.getNextCursor() != null)
+            headers.add(NEXT_CURSOR_HEADER, page.getNextCursor());
+        if (page.getTotal() != null)
+            headers.add(TOTAL_COUNT_HEADER, String.valueOf(page.getTotal()));
+        return ResponseEntity.ok().headers(headers).body(page.getTasks());
     }
 
 
     /**
-     * Exports tasks to a specified format.
+     * Exports the tasks matching all of the given criteria, streamed into the response as they are read.
      *
-     * @param format     the format to export the tasks to (CSV, Excel, PDF, etc.)
+     * @param format     the format to export the tasks to ({@code PDF}, {@code CSV} or {@code NDJSON})
      * @param status     the status of the tasks to export
      * @param priority   the priority of the tasks to export
      * @param projectId  the ID of the project to export tasks for
      * @param assignedTo the ID of the user the tasks are assigned to
-     * @return a ResponseEntity containing the exported file and an HTTP status code
+     * @return a ResponseEntity streaming the exported file and an HTTP status code
      */
-    @GetMapping("/exportTasks") //TODO
-    public ResponseEntity<InputStreamResource> exportTasks(
-//            @RequestParam(value = "format") String format,
-//            @RequestParam(value = "status", required = false) TaskStatus status,
-//            @RequestParam(value = "priority", required = false) TaskPriority priority,
-//            @RequestParam(value = "projectId", required = false) Long projectId,
-//            @RequestParam(value = "assignedTo", required = false) Long assignedTo
+    @GetMapping("/exportTasks")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(value = "format", defaultValue = "PDF") TaskExportFormat format,
+            @RequestParam(value = "status", required = false) TaskStatus status,
+            @RequestParam(value = "priority", required = false) TaskPriority priority,
+            @RequestParam(value = "projectId", required = false) Long projectId,
+            @RequestParam(value = "assignedTo", required = false) Long assignedTo
     ) {
 
         DateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd HH-mm-ss");
         String currentDate = dateFormatter.format(new Date());
-        String filename = "TaskList(" + currentDate + ").pdf";
+        String filename = "TaskList(" + currentDate + ")." + format.getExtension();
 
         HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.add("Content-Disposition", "attachment; filename=" + filename);
@@ -159,8 +238,78 @@ public class TaskManagementController {
         return ResponseEntity
                 .ok()
                 .headers(httpHeaders)
-                .contentType(MediaType.APPLICATION_PDF)
-                .body(new InputStreamResource(pdfEntityService.createTaskPDF()));
+                .contentType(format.getMediaType())
+                .body(taskExportService.exportTasks(format, new TaskSearchCriteria(status, priority, projectId, assignedTo)));
+    }
+
+
+    /**
+     * Submits an export of the tasks matching all of the given criteria to run in the background.
+     *
+     * @param format     the format to export the tasks to ({@code PDF}, {@code CSV} or {@code NDJSON})
+     * @param status     the status of the tasks to export
+     * @param priority   the priority of the tasks to export
+     * @param projectId  the ID of the project to export tasks for
+     * @param assignedTo the ID of the user the tasks are assigned to
+     * @return the queued job as {@link TaskExportJobResponse} and an HTTP status code of 202 (ACCEPTED)
+     */
+    @PostMapping("/export-jobs")
+    public ResponseEntity<TaskExportJobResponse> submitExportJob(
+            @RequestParam(value = "format", defaultValue = "PDF") TaskExportFormat format,
+            @RequestParam(value = "status", required = false) TaskStatus status,
+            @RequestParam(value = "priority", required = false) TaskPriority priority,
+            @RequestParam(value = "projectId", required = false) Long projectId,
+            @RequestParam(value = "assignedTo", required = false) Long assignedTo
+    ) {
+        return new ResponseEntity<>(
+                taskExportJobService.submit(format, new TaskSearchCriteria(status, priority, projectId, assignedTo)),
+                HttpStatus.ACCEPTED
+        );
+    }
+
+
+    /**
+     * Returns the state of a background export.
+     *
+     * @param jobId the ID of the export job
+     * @return the job as {@link TaskExportJobResponse}
+     * @throws ResourceNotFoundException if the job was not found or has expired
+     */
+    @GetMapping("/export-jobs/{jobId}")
+    public ResponseEntity<TaskExportJobResponse> getExportJob(@PathVariable String jobId) throws ResourceNotFoundException {
+        return ResponseEntity.ok(taskExportJobService.getJob(jobId));
+    }
+
+
+    /**
+     * Downloads the file of a finished background export. Range requests are supported, so an interrupted download can be
+     * resumed, and the SHA-256 of the whole file is sent in the {@code ETag} and {@code Repr-Digest} headers. The file is
+     * on the owner instance of the job, a request that reaches another instance is forwarded there.
+     *
+     * @param jobId the ID of the export job
+     * @return the exported file
+     * @throws ResourceNotFoundException if the job or its file was not found
+     */
+    @GetMapping("/export-jobs/{jobId}/download")
+    public ResponseEntity<?> downloadExport(@PathVariable String jobId, WebRequest webRequest, HttpServletRequest request) throws ResourceNotFoundException {
+        TaskExportJob job = taskExportJobService.getFinishedJob(jobId);
+        if (!taskExportJobService.isLocal(job))
+            return taskExportDownloadForwarder.forward(job, request);
+
+        String eTag = "\"" + job.getSha256() + "\"";
+        if (webRequest.checkNotModified(eTag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add("Content-Disposition", "attachment; filename=TaskList(" + jobId + ")." + job.getFormat().getExtension());
+        httpHeaders.add("Repr-Digest", "sha-256=:" + Base64.getEncoder().encodeToString(HexFormat.of().parseHex(job.getSha256())) + ":");
+        httpHeaders.setETag(eTag);
+
+        return ResponseEntity
+                .ok()
+                .headers(httpHeaders)
+                .contentType(job.getFormat().getMediaType())
+                .body(new FileSystemResource(taskExportJobService.resolve(job)));
     }
 
-}
\ No newline at end of file
+}
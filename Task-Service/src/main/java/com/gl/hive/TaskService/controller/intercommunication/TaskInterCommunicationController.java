@@ -1,17 +1,34 @@
 package com.gl.hive.TaskService.controller.intercommunication;
 
+import com.gl.hive.TaskService.model.response.TaskPageResponse;
 import com.gl.hive.TaskService.service.intercommunication.TaskInterCommunicationService;
+import com.gl.hive.shared.lib.model.dto.TaskCountsDTO;
+import com.gl.hive.shared.lib.model.dto.TaskDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/task/inter-communication")
 public class TaskInterCommunicationController {
 
+    private static final int MAX_PURGE_BATCH_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TaskInterCommunicationService taskInterCommunicationService;
 
     /**
@@ -25,4 +42,103 @@ public class TaskInterCommunicationController {
         return taskInterCommunicationService.validateTaskExistence(taskId);
     }
 
+
+    /**
+     * Checks whether the user is assigned to the task.
+     *
+     * @param userId the user
+     * @param taskId the task
+     * @return true if the user is assigned to the task, otherwise false
+     */
+    @GetMapping("/find-by-assigned-users/{userId}/{taskId}")
+    public boolean findTaskByAssignedUser_IsUserPresent(@PathVariable long userId, @PathVariable Long taskId) {
+        return taskInterCommunicationService.isUserAssignedToTask(userId, taskId);
+    }
+
+
+    /**
+     * Retrieves the tasks of a project with their assignments.
+     *
+     * @param projectId the project
+     * @return the tasks of the project as {@link TaskDTO}, ordered by taskId
+     */
+    @GetMapping("/find-by-project/{projectId}")
+    public List<TaskDTO> findTasksByProjectId(@PathVariable long projectId) {
+        return taskInterCommunicationService.findTasksByProjectId(projectId);
+    }
+
+
+    /**
+     * Retrieves a page of the tasks of many projects in one call, ordered by taskId.
+     * When there are more tasks, the cursor of the next page is returned in the {@value #NEXT_CURSOR_HEADER} header.
+     *
+     * @param projectIds the projects
+     * @param after      the taskId of the last task of the previous page
+     * @param size       the maximum number of tasks in the page, at most 1000
+     * @return the tasks as {@link TaskDTO}
+     */
+    @GetMapping("/find-by-projects")
+    public ResponseEntity<List<TaskDTO>> findTasksByProjectIds(
+            @RequestParam Collection<Long> projectIds,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "500") int size
+    ) {
+        TaskPageResponse page = taskInterCommunicationService.findTasksByProjectIds(
+                projectIds, after, Math.max(1, Math.min(size, MAX_PAGE_SIZE))
+        );
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null)
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        return response.body(page.getTasks());
+    }
+
+
+    /**
+     * Evicts the cached access decisions of a project; called by the PROJECT-SERVICE when the access to the project changes.
+     *
+     * @param projectId the ID of the project whose access changed
+     */
+    @PostMapping("/evict-project-access/{projectId}")
+    public void evictProjectAccess(@PathVariable long projectId) {
+        taskInterCommunicationService.evictProjectAccess(projectId);
+    }
+
+
+    /**
+     * Evicts the cached access decisions of many projects at once; called by the PROJECT-SERVICE when a bulk change,
+     * such as the end of the projects, changes the access to all of them.
+     *
+     * @param projectIds the IDs of the projects whose access changed
+     */
+    @PostMapping("/evict-projects-access")
+    public void evictProjectsAccess(@RequestBody Collection<Long> projectIds) {
+        projectIds.forEach(taskInterCommunicationService::evictProjectAccess);
+    }
+
+
+
+    /**
+     * Deletes a batch of the tasks of a deleted project; called repeatedly by the PROJECT-SERVICE until it returns 0.
+     *
+     * @param projectId the ID of the deleted project
+     * @param limit     the maximum number of tasks to delete in this call
+     * @return the number of tasks deleted
+     */
+    @DeleteMapping("/purge-by-project/{projectId}")
+    public int purgeTasksOfProject(@PathVariable long projectId, @RequestParam(defaultValue = "500") int limit) {
+        return taskInterCommunicationService.purgeTasksOfProject(projectId, Math.max(1, Math.min(limit, MAX_PURGE_BATCH_SIZE)));
+    }
+
+
+    /**
+     * Counts the tasks of the given projects; used by the PROJECT-SERVICE to reconcile its progress counters.
+     *
+     * @param projectIds the IDs of the projects to count the tasks of
+     * @return the counters of each project, keyed by its ID
+     */
+    @GetMapping("/task-counts")
+    public Map<Long, TaskCountsDTO> getTaskCounts(@RequestParam Collection<Long> projectIds) {
+        return taskInterCommunicationService.getTaskCounts(projectIds);
+    }
+
 }
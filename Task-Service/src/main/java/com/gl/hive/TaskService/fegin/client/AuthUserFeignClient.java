@@ -6,8 +6,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
+import java.util.Collection;
+import java.util.List;
+
 @FeignClient(name = "4-AUTHENTICATION-SERVICE/api/v1/inter-communication", configuration = FeignClientConfiguration.class)
 public interface AuthUserFeignClient {
 
@@ -30,4 +34,8 @@ public interface AuthUserFeignClient {
     @GetMapping("/get-user/{userId}")
     UserDTO getUserDTOById(@PathVariable Long userId);
 
+
+    @PostMapping("/get-users")
+    List<UserDTO> getUserDTOsByIds(@RequestBody Collection<Long> userIds);
+
 }
@@ -2,13 +2,18 @@ package com.gl.hive.TaskService.fegin.client;
 
 import com.gl.hive.shared.lib.exceptions.NotLeaderOfProjectException;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import com.gl.hive.shared.lib.model.dto.ProjectAccessDTO;
 import com.gl.hive.shared.lib.model.dto.ProjectDTO;
+import com.gl.hive.shared.lib.model.dto.TaskEventDTO;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
 import java.util.List;
 
 @FeignClient(name = "5-PROJECT-SERVICE/api/v1/project/inter-communication", configuration = FeignClientConfiguration.class)
@@ -18,14 +23,30 @@ public interface ProjectUtilFeignClient {
     boolean isMemberOfProject(@RequestParam long projectId, @RequestParam long userId) throws ResourceNotFoundException;
 
 
+    @PostMapping("/members-of-project/{projectId}")
+    List<Long> filterMembersOfProject(@PathVariable long projectId, @RequestBody Collection<Long> userIds) throws ResourceNotFoundException;
+
+
     @GetMapping("/is-leader-of-project")
     boolean isLeaderOrAdminOfProject(@RequestParam long projectId, @RequestParam long userId) throws NotLeaderOfProjectException, ResourceNotFoundException;
 
 
+    @GetMapping("/project-access")
+    ProjectAccessDTO getProjectAccess(@RequestParam long projectId, @RequestParam long userId);
+
+
     @GetMapping("/project-dto/{projectId}")
     ProjectDTO getProjectAsDTO(@PathVariable long projectId) throws ResourceNotFoundException;
 
 
+    @GetMapping("/project-dtos")
+    List<ProjectDTO> getProjectDTOs(@RequestParam Collection<Long> projectIds, @RequestParam Collection<String> fields);
+
+
     @GetMapping("/get-user-association-with-task-and-project/{projectId}")
     List<UserDTO> getUsersAssociatedWithTaskAndProject(@PathVariable long projectId);
+
+
+    @PostMapping("/task-events")
+    void publishTaskEvent(@RequestBody TaskEventDTO event);
 }
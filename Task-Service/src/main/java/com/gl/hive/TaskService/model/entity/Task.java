@@ -1,5 +1,7 @@
 package com.gl.hive.TaskService.model.entity;
 
+import com.gl.hive.TaskService.model.entity.listener.TaskProgressListener;
+import com.gl.hive.TaskService.model.entity.listener.TaskProgressSnapshot;
 import com.gl.hive.shared.lib.model.enums.TaskPriority;
 import com.gl.hive.shared.lib.model.enums.TaskStatus;
 import jakarta.persistence.*;
@@ -15,20 +17,36 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_task_project_id", columnList = "project_id, task_id"),
+        @Index(name = "idx_task_project_name", columnList = "project_id, task_name"),
+        @Index(name = "idx_task_project_status_priority_due", columnList = "project_id, task_status, task_priority, due_date"),
+        @Index(name = "idx_task_status_priority_due", columnList = "task_status, task_priority, due_date")
+})
+@EntityListeners(TaskProgressListener.class)
 public class Task {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /* ids are taken from the pooled task_seq, ALLOCATION_SIZE at a time, so the inserts can be batched; see TaskIdSequenceAligner */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = Task.ID_ALLOCATION_SIZE)
+    @Column(name = "task_id")
     private Long taskId;
 
+    @Column(name = "task_name")
     private String taskName;
     private String description;
+    @Column(name = "due_date")
     private LocalDateTime dueDate;
     private LocalDateTime createdAt;
     private LocalDateTime completionDate;
     @Enumerated(EnumType.STRING)
+    @Column(name = "task_status")
     private TaskStatus taskStatus;
     @Enumerated(EnumType.STRING)
+    @Column(name = "task_priority")
     private TaskPriority taskPriority;
     private boolean hasOverdue;
 
@@ -36,7 +54,12 @@ public class Task {
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TaskUser> assignedUsers = new ArrayList<>();
     private Long createdByUserId;
+    @Column(name = "project_id")
     private Long projectId;
     /* end of relationships */
 
+    /** The progress state of the task as it was last loaded or flushed; see {@link TaskProgressListener}. */
+    @Transient
+    private transient TaskProgressSnapshot progressSnapshot;
+
 }
@@ -0,0 +1,67 @@
+package com.gl.hive.TaskService.model.entity;
+
+import com.gl.hive.TaskService.service.module.export.TaskExportFormat;
+import com.gl.hive.shared.lib.model.enums.TaskPriority;
+import com.gl.hive.shared.lib.model.enums.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An export of tasks running in the background, readable only by the user who requested it. The exported file is written
+ * to the local export directory of the instance that ran the job, its {@code ownerInstance}, which serves the downloads
+ * and removes the job and its file once {@code expiresAt} has passed.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "task_export_job", indexes = @Index(name = "idx_task_export_job_owner_expires_at", columnList = "owner_instance, expires_at"))
+public class TaskExportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    @Id
+    @Column(length = 36)
+    private String jobId;
+
+    @Column(name = "owner_instance")
+    private String ownerInstance;
+    private Long requestedByUserId;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+    @Enumerated(EnumType.STRING)
+    private TaskExportFormat format;
+
+    /* the filters of the export, the ones that are null are not applied */
+    @Enumerated(EnumType.STRING)
+    private TaskStatus taskStatus;
+    @Enumerated(EnumType.STRING)
+    private TaskPriority taskPriority;
+    private Long projectId;
+    private Long assignedToUserId;
+
+    private String fileName;
+    private Long sizeBytes;
+    @Column(length = 64)
+    private String sha256;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(length = 1_000)
+    private String error;
+
+}
@@ -12,8 +12,9 @@ import lombok.*;
 @Table(
     name = "tasks_users",
     uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"task_id"})
-    }
+        @UniqueConstraint(name = "uk_tasks_users_task_user", columnNames = {"task_id", "user_id"})
+    },
+    indexes = @Index(name = "idx_tasks_users_user_id", columnList = "user_id, task_id")
 )
 public class TaskUser {
 
@@ -25,6 +26,7 @@ public class TaskUser {
     @ManyToOne
     @JoinColumn(name = "task_id")
     private Task task;
+    @Column(name = "user_id")
     private long userId;
     /* end of relationships */
 
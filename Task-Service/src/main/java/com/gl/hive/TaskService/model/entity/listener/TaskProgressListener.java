@@ -0,0 +1,50 @@
+package com.gl.hive.TaskService.model.entity.listener;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.TaskService.util.TaskEventPublisher;
+import com.gl.hive.shared.lib.model.dto.TaskEventDTO;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes a {@link TaskEventDTO} to the PROJECT-SERVICE on every {@link Task} change that affects the progress of its project.
+ * <p>
+ * The state of the task as it was loaded is kept on the entity, so an update only publishes the difference.
+ */
+@RequiredArgsConstructor
+public class TaskProgressListener {
+
+    private final TaskEventPublisher taskEventPublisher;
+
+    @PostLoad
+    public void onLoad(Task task) {
+        task.setProgressSnapshot(TaskProgressSnapshot.of(task));
+    }
+
+    @PostPersist
+    public void onPersist(Task task) {
+        TaskProgressSnapshot current = TaskProgressSnapshot.of(task);
+        taskEventPublisher.publish(TaskEventDTO.Type.CREATED, task.getTaskId(), null, current);
+        task.setProgressSnapshot(current);
+    }
+
+    @PostUpdate
+    public void onUpdate(Task task) {
+        TaskProgressSnapshot current = TaskProgressSnapshot.of(task);
+        taskEventPublisher.publish(TaskEventDTO.Type.UPDATED, task.getTaskId(), task.getProgressSnapshot(), current);
+        task.setProgressSnapshot(current);
+    }
+
+    @PostRemove
+    public void onRemove(Task task) {
+        TaskProgressSnapshot previous = task.getProgressSnapshot() != null
+                ? task.getProgressSnapshot()
+                : TaskProgressSnapshot.of(task);
+        taskEventPublisher.publish(TaskEventDTO.Type.DELETED, task.getTaskId(), previous, null);
+        task.setProgressSnapshot(null);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.gl.hive.TaskService.model.entity.listener;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.shared.lib.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The parts of a {@link Task} that the progress counters of its project are counted by.
+ */
+public record TaskProgressSnapshot(long projectId, boolean counted, boolean completed, boolean overdue) {
+
+    public static TaskProgressSnapshot of(Task task) {
+        return of(task.getProjectId(), task.getTaskStatus(), task.getDueDate());
+    }
+
+    public static TaskProgressSnapshot of(Long projectId, TaskStatus status, LocalDateTime dueDate) {
+        boolean counted = status != TaskStatus.CANCELLED;
+        boolean completed = status == TaskStatus.COMPLETED;
+        boolean overdue = counted && !completed && (
+                status == TaskStatus.OVERDUE
+                        || (dueDate != null && dueDate.isBefore(LocalDateTime.now()))
+        );
+        return new TaskProgressSnapshot(projectId != null ? projectId : 0L, counted, completed, overdue);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.gl.hive.TaskService.model.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkTaskRequest {
+
+    @NotNull
+    @Builder.Default
+    private List<TaskRequest> tasks = new ArrayList<>();
+
+}
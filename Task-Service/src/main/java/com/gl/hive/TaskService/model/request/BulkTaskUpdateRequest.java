@@ -0,0 +1,32 @@
+package com.gl.hive.TaskService.model.request;
+
+import com.gl.hive.shared.lib.model.enums.TaskPriority;
+import com.gl.hive.shared.lib.model.enums.TaskStatus;
+import jakarta.validation.constraints.FutureOrPresent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkTaskUpdateRequest {
+
+    /* the tasks to update: the listed ones, or else all the tasks of the project matching the filters */
+    private List<Long> taskIds;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private Long assignedTo;
+
+    /* the changes; the ones that are null are not applied */
+    private TaskStatus newStatus;
+    private TaskPriority newPriority;
+    @FutureOrPresent
+    private LocalDateTime newDueDate;
+
+}
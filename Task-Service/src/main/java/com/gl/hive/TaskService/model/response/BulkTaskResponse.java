@@ -0,0 +1,39 @@
+package com.gl.hive.TaskService.model.response;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The result of a bulk task change: the number of tasks changed and the result of each requested task, in the order of the request.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkTaskResponse {
+
+    private int succeeded;
+    private int failed;
+
+    @Builder.Default
+    private List<Result> results = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Result {
+
+        private int index;
+        private Long taskId;
+        private String taskName;
+        private boolean success;
+        private String message;
+
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.gl.hive.TaskService.model.response;
+
+import lombok.*;
+
+/**
+ * The result of a bulk task update: the number of tasks matched and the number of them that were changed.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkTaskUpdateResponse {
+
+    private int matched;
+    private int updated;
+
+}
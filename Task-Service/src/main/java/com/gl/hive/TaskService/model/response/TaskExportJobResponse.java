@@ -0,0 +1,36 @@
+package com.gl.hive.TaskService.model.response;
+
+import com.gl.hive.TaskService.model.entity.TaskExportJob;
+import com.gl.hive.TaskService.service.module.export.TaskExportFormat;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The state of a background export of tasks; {@code downloadUrl} is set once the file is ready. The file is served by
+ * the {@code ownerInstance}, the other instances forward its download there.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskExportJobResponse {
+
+    private String jobId;
+    private TaskExportJob.Status status;
+    private TaskExportFormat format;
+    private String ownerInstance;
+
+    private Long sizeBytes;
+    private String sha256;
+    private String downloadUrl;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime expiresAt;
+
+    private String error;
+
+}
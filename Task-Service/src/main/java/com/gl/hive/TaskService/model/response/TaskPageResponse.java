@@ -0,0 +1,24 @@
+package com.gl.hive.TaskService.model.response;
+
+import com.gl.hive.shared.lib.model.dto.TaskDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A keyset page of tasks. {@code nextCursor} is the taskId to pass as {@code after} for the next page,
+ * or {@code null} if this is the last page.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskPageResponse {
+
+    private List<TaskDTO> tasks;
+    private Long nextCursor;
+
+}
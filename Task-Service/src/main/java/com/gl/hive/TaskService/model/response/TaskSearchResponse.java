@@ -0,0 +1,24 @@
+package com.gl.hive.TaskService.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A keyset page of a task search. {@code nextCursor} is the cursor to pass as {@code after} for the next page,
+ * or {@code null} if this is the last page; {@code total} is only counted when requested.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskSearchResponse {
+
+    private List<TaskResponse> tasks;
+    private String nextCursor;
+    private Long total;
+
+}
@@ -0,0 +1,28 @@
+package com.gl.hive.TaskService.repository;
+
+import com.gl.hive.TaskService.model.entity.TaskExportJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TaskExportJobRepository extends JpaRepository<TaskExportJob, String> {
+
+    List<TaskExportJob> findByOwnerInstanceAndExpiresAtBeforeOrderByExpiresAt(String ownerInstance, LocalDateTime now, Pageable pageable);
+
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE TaskExportJob j SET j.status = :failed, j.error = :error, j.finishedAt = :finishedAt, j.expiresAt = :expiresAt
+            WHERE j.ownerInstance =:ownerInstance AND j.status IN :unfinished
+            """)
+    int failAll(String ownerInstance, Collection<TaskExportJob.Status> unfinished, TaskExportJob.Status failed,
+                String error, LocalDateTime finishedAt, LocalDateTime expiresAt);
+
+}
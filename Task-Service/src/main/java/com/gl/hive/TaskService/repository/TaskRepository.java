@@ -1,14 +1,22 @@
 package com.gl.hive.TaskService.repository;
 
 import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.TaskService.repository.search.TaskBulkUpdateRepository;
+import com.gl.hive.TaskService.repository.search.TaskSearchRepository;
 import com.gl.hive.shared.lib.model.enums.TaskPriority;
 import com.gl.hive.shared.lib.model.enums.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskSearchRepository, TaskBulkUpdateRepository {
 
     Optional<Task> findByAssignedUsers_UserIdAndTaskId(long userId, Long taskId);
 
@@ -16,6 +24,10 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     Optional<Task> findByProjectIdAndTaskName(Long projectId, String taskName);
 
 
+    @Query("SELECT t.taskName FROM Task t WHERE t.projectId = :projectId AND t.taskName IN :taskNames")
+    List<String> findTaskNamesByProjectIdAndTaskNameIn(Long projectId, Collection<String> taskNames);
+
+
     List<Task> findByProjectId(Long projectId);
 
 
@@ -24,4 +36,59 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     List<Task> findByTaskStatus(TaskStatus taskStatus);
 
-}
\ No newline at end of file
+
+
+    /* projections of the task columns of TaskDTO, read through the (project_id, task_id) index */
+    @Query("""
+            SELECT t.taskId, t.taskName, t.description, t.dueDate, t.createdAt, t.completionDate,
+                   t.taskStatus, t.taskPriority, t.hasOverdue, t.createdByUserId, t.projectId
+            FROM Task t
+            WHERE t.projectId =:projectId
+            ORDER BY t.taskId
+            """)
+    List<Object[]> findTaskRowsByProjectId(@Param("projectId") long projectId);
+
+
+    @Query("""
+            SELECT t.taskId, t.taskName, t.description, t.dueDate, t.createdAt, t.completionDate,
+                   t.taskStatus, t.taskPriority, t.hasOverdue, t.createdByUserId, t.projectId
+            FROM Task t
+            WHERE t.projectId IN :projectIds AND t.taskId >:cursor
+            ORDER BY t.taskId
+            """)
+    List<Object[]> findTaskRowsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds,
+                                             @Param("cursor") long cursor,
+                                             Pageable pageable);
+
+
+    @Query("SELECT t.taskId FROM Task t WHERE t.projectId =:projectId ORDER BY t.taskId")
+    List<Long> findTaskIdsByProjectId(@Param("projectId") long projectId, Pageable pageable);
+
+
+    /* bulk delete: bypasses the entity listeners, so no task events are published for the purged tasks */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.taskId IN :taskIds")
+    int deleteAllByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+
+    /**
+     * Counts the tasks of the given projects in one grouped query.
+     *
+     * @return rows of {@code [projectId, total, completed, overdue]}
+     */
+    @Query("""
+            SELECT t.projectId,
+                   COUNT(t),
+                   SUM(CASE WHEN t.taskStatus = :completed THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN t.taskStatus <> :completed AND (t.taskStatus = :overdue OR t.dueDate < :now) THEN 1 ELSE 0 END)
+            FROM Task t
+            WHERE t.projectId IN :projectIds AND t.taskStatus <> :cancelled
+            GROUP BY t.projectId
+            """)
+    List<Object[]> countTasksByProjectIdIn(@Param("projectIds") Collection<Long> projectIds,
+                                           @Param("completed") TaskStatus completed,
+                                           @Param("overdue") TaskStatus overdue,
+                                           @Param("cancelled") TaskStatus cancelled,
+                                           @Param("now") LocalDateTime now);
+
+}
@@ -3,15 +3,14 @@ package com.gl.hive.TaskService.repository;
 import com.gl.hive.TaskService.model.entity.Task;
 import com.gl.hive.TaskService.model.entity.TaskUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface TaskUserRepository extends JpaRepository<TaskUser, Long> {
 
-    Optional<TaskUser> findByUserId(Long userId);
-
     @Query("""
             SELECT t FROM TaskUser t WHERE t.userId =:userId
             """)
@@ -23,4 +22,32 @@ public interface TaskUserRepository extends JpaRepository<TaskUser, Long> {
 
     boolean existsByUserIdAndTask_TaskId(long userId, Long taskId);
 
+
+    @Query("SELECT t.userId FROM TaskUser t WHERE t.task.taskId = :taskId")
+    List<Long> findUserIdsByTaskId(long taskId);
+
+
+    @Query("SELECT t.userId FROM TaskUser t WHERE t.task.taskId = :taskId AND t.userId IN :userIds")
+    List<Long> findUserIdsByTaskIdAndUserIdIn(long taskId, Collection<Long> userIds);
+
+
+    @Query("SELECT t.task.taskId, t.taskUserId, t.userId FROM TaskUser t WHERE t.task.taskId IN :taskIds")
+    List<Object[]> findAssignmentRowsByTaskIdIn(Collection<Long> taskIds);
+
+
+    /* served by the (task_id, user_id) unique index */
+    @Modifying
+    @Query("DELETE FROM TaskUser t WHERE t.task.taskId = :taskId AND t.userId IN :userIds")
+    int deleteByTaskIdAndUserIdIn(long taskId, Collection<Long> userIds);
+
+
+    @Modifying
+    @Query("DELETE FROM TaskUser t WHERE t.task.taskId = :taskId")
+    int deleteAllByTaskId(long taskId);
+
+
+    @Modifying
+    @Query("DELETE FROM TaskUser t WHERE t.task.taskId IN :taskIds")
+    int deleteAllByTaskIdIn(Collection<Long> taskIds);
+
 }
\ No newline at end of file
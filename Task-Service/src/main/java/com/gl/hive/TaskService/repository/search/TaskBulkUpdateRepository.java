@@ -0,0 +1,28 @@
+package com.gl.hive.TaskService.repository.search;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based updates of many tasks at once.
+ */
+public interface TaskBulkUpdateRepository {
+
+    /**
+     * Returns the {@code taskId, taskStatus, taskPriority, dueDate} of at most {@code limit} tasks of the project that
+     * match the criteria, restricted to the given ids when they are not {@code null}.
+     */
+    List<Object[]> findProgressRows(long projectId, TaskSearchCriteria criteria, Collection<Long> taskIds, int limit);
+
+
+    /**
+     * Applies the patch to the given tasks with one {@code UPDATE} statement.
+     *
+     * @param completing whether the tasks are being completed by the patch, which also sets their completion date
+     *                   and whether they were overdue when completed
+     * @return the number of updated tasks
+     */
+    int applyPatch(Collection<Long> taskIds, TaskPatch patch, boolean completing, LocalDateTime now);
+
+}
@@ -0,0 +1,71 @@
+package com.gl.hive.TaskService.repository.search;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.shared.lib.model.enums.TaskPriority;
+import com.gl.hive.shared.lib.model.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link TaskBulkUpdateRepository}, picked up by Spring Data as a fragment of the TaskRepository.
+ * <p>
+ * Only the columns the progress of the project depends on are read, and the changes are written without loading
+ * the tasks, so the cost of a bulk update is a couple of statements whatever the number of tasks.
+ */
+public class TaskBulkUpdateRepositoryImpl implements TaskBulkUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Object[]> findProgressRows(long projectId, TaskSearchCriteria criteria, Collection<Long> taskIds, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Task> task = query.from(Task.class);
+
+        List<Predicate> predicates = TaskSearchRepositoryImpl.filters(cb, query, task, criteria);
+        predicates.add(cb.equal(task.get("projectId"), projectId));
+        if (taskIds != null)
+            predicates.add(task.get("taskId").in(taskIds));
+
+        query.multiselect(task.get("taskId"), task.get("taskStatus"), task.get("taskPriority"), task.get("dueDate"))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(task.get("taskId")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+
+    @Override
+    public int applyPatch(Collection<Long> taskIds, TaskPatch patch, boolean completing, LocalDateTime now) {
+        if (taskIds.isEmpty())
+            return 0;
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        if (completing) {
+            // compared with the patched due date when there is one; MySQL would otherwise see the value set below
+            Expression<LocalDateTime> dueDate = patch.dueDate() != null ? cb.literal(patch.dueDate()) : task.get("dueDate");
+            update.set(task.<Boolean>get("hasOverdue"), cb.<Boolean>selectCase().when(cb.lessThan(dueDate, now), true).otherwise(false));
+            update.set(task.<LocalDateTime>get("completionDate"), now);
+        }
+        if (patch.taskStatus() != null)
+            update.set(task.<TaskStatus>get("taskStatus"), patch.taskStatus());
+        if (patch.taskPriority() != null)
+            update.set(task.<TaskPriority>get("taskPriority"), patch.taskPriority());
+        if (patch.dueDate() != null)
+            update.set(task.<LocalDateTime>get("dueDate"), patch.dueDate());
+
+        update.where(task.get("taskId").in(taskIds));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+}
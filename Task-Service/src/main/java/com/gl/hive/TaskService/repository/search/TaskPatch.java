@@ -0,0 +1,26 @@
+package com.gl.hive.TaskService.repository.search;
+
+import com.gl.hive.shared.lib.model.enums.TaskPriority;
+import com.gl.hive.shared.lib.model.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The changes of a bulk task update; the fields that are {@code null} are left as they are.
+ */
+public record TaskPatch(TaskStatus taskStatus, TaskPriority taskPriority, LocalDateTime dueDate) {
+
+    public boolean isEmpty() {
+        return taskStatus == null && taskPriority == null && dueDate == null;
+    }
+
+    /**
+     * Whether the patch changes the task with the given values.
+     */
+    public boolean changes(TaskStatus currentStatus, TaskPriority currentPriority, LocalDateTime currentDueDate) {
+        return (taskStatus != null && taskStatus != currentStatus)
+                || (taskPriority != null && taskPriority != currentPriority)
+                || (dueDate != null && !dueDate.equals(currentDueDate));
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.gl.hive.TaskService.repository.search;
+
+import com.gl.hive.shared.lib.model.enums.TaskPriority;
+import com.gl.hive.shared.lib.model.enums.TaskStatus;
+
+/**
+ * The filters of a task search; the filters that are {@code null} are not applied, the rest are ANDed.
+ */
+public record TaskSearchCriteria(TaskStatus status, TaskPriority priority, Long projectId, Long assignedToUserId) {
+
+    public enum SortBy {
+        TASK_ID,
+        DUE_DATE
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.gl.hive.TaskService.repository.search;
+
+import com.gl.hive.shared.lib.exceptions.HiveException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * The position of the last task of a search page: its taskId, and its due date when the search is sorted by due date.
+ * Encoded as {@code taskId} or {@code dueDate_taskId}, with an empty {@code dueDate} for a task without a due date.
+ */
+public record TaskSearchCursor(LocalDateTime dueDate, long taskId) {
+
+    public static TaskSearchCursor parse(String cursor, TaskSearchCriteria.SortBy sortBy) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+        try {
+            if (sortBy == TaskSearchCriteria.SortBy.TASK_ID)
+                return new TaskSearchCursor(null, Long.parseLong(cursor));
+
+            int separator = cursor.lastIndexOf('_');
+            String dueDate = cursor.substring(0, separator);
+            return new TaskSearchCursor(
+                    dueDate.isEmpty() ? null : LocalDateTime.parse(dueDate),
+                    Long.parseLong(cursor.substring(separator + 1))
+            );
+        } catch (NumberFormatException | DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new HiveException("😖 Invalid search cursor {" + cursor + "} 😖", BAD_REQUEST, BAD_REQUEST.value());
+        }
+    }
+
+
+    public String encode(TaskSearchCriteria.SortBy sortBy) {
+        return sortBy == TaskSearchCriteria.SortBy.TASK_ID
+                ? String.valueOf(taskId)
+                : (dueDate != null ? dueDate.toString() : "") + "_" + taskId;
+    }
+
+}
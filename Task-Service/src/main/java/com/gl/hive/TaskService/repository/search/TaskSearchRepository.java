@@ -0,0 +1,32 @@
+package com.gl.hive.TaskService.repository.search;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Task search with all the filters ANDed in one query and keyset pagination.
+ */
+public interface TaskSearchRepository {
+
+    /**
+     * Returns at most {@code limit} tasks matching the criteria that come after the cursor in the given order.
+     *
+     * @param after the position of the last task of the previous page, or {@code null} for the first page
+     */
+    List<Task> search(TaskSearchCriteria criteria, TaskSearchCriteria.SortBy sortBy, Sort.Direction direction,
+                      TaskSearchCursor after, int limit);
+
+
+    long count(TaskSearchCriteria criteria);
+
+
+    /**
+     * Streams all the tasks matching the criteria in the order of their ids from a forward-only cursor.
+     * Each task is detached once read, so the stream has to be consumed, and closed, inside a transaction.
+     */
+    Stream<Task> stream(TaskSearchCriteria criteria);
+
+}
@@ -0,0 +1,166 @@
+package com.gl.hive.TaskService.repository.search;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.TaskService.model.entity.TaskUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API implementation of {@link TaskSearchRepository}, picked up by Spring Data as a fragment of the TaskRepository.
+ * <p>
+ * The filters are served by the {@code (project_id, task_status, task_priority, due_date)} index, and the pages are read
+ * from the position of the cursor instead of an offset, so the cost of a page depends on its size, not on the table.
+ */
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    /* makes MySQL Connector/J send the rows one by one instead of buffering the whole result set */
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> search(TaskSearchCriteria criteria, TaskSearchCriteria.SortBy sortBy, Sort.Direction direction,
+                             TaskSearchCursor after, int limit) {
+        if (sortBy == TaskSearchCriteria.SortBy.DUE_DATE)
+            return searchByDueDate(criteria, direction.isAscending(), after, limit);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+
+        List<Predicate> predicates = filters(cb, query, task, criteria);
+        Path<Long> taskId = task.get("taskId");
+        boolean ascending = direction.isAscending();
+        if (after != null)
+            predicates.add(ascending ? cb.gt(taskId, after.taskId()) : cb.lt(taskId, after.taskId()));
+        query.orderBy(ascending ? cb.asc(taskId) : cb.desc(taskId));
+
+        query.select(task).where(predicates.toArray(new Predicate[0]));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Tasks without a due date come after all the others in ascending order and before them in descending order.
+     * <p>
+     * The dated and the undated tasks are read by two separate queries, each ordered on plain columns of the index,
+     * so neither of them needs a filesort: the second query only runs when the first one can't fill the page.
+     */
+    private List<Task> searchByDueDate(TaskSearchCriteria criteria, boolean ascending, TaskSearchCursor after, int limit) {
+        boolean afterUndated = after != null && after.dueDate() == null;
+        List<Task> tasks = new ArrayList<>();
+
+        if (ascending) {
+            if (!afterUndated)
+                tasks.addAll(searchDueDateBranch(criteria, true, true, after, limit));
+            if (tasks.size() < limit)
+                tasks.addAll(searchDueDateBranch(criteria, false, true, afterUndated ? after : null, limit - tasks.size()));
+        } else {
+            if (after == null || afterUndated)
+                tasks.addAll(searchDueDateBranch(criteria, false, false, after, limit));
+            if (tasks.size() < limit)
+                tasks.addAll(searchDueDateBranch(criteria, true, false, afterUndated ? null : after, limit - tasks.size()));
+        }
+        return tasks;
+    }
+
+    private List<Task> searchDueDateBranch(TaskSearchCriteria criteria, boolean dated, boolean ascending,
+                                           TaskSearchCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+
+        List<Predicate> predicates = filters(cb, query, task, criteria);
+        Path<LocalDateTime> dueDate = task.get("dueDate");
+        Path<Long> taskId = task.get("taskId");
+        Predicate afterTaskId = after == null ? null
+                : ascending ? cb.gt(taskId, after.taskId()) : cb.lt(taskId, after.taskId());
+
+        if (dated) {
+            predicates.add(cb.isNotNull(dueDate));
+            if (after != null)
+                predicates.add(cb.or(
+                        ascending ? cb.greaterThan(dueDate, after.dueDate()) : cb.lessThan(dueDate, after.dueDate()),
+                        cb.and(cb.equal(dueDate, after.dueDate()), afterTaskId)
+                ));
+            query.orderBy(
+                    ascending ? cb.asc(dueDate) : cb.desc(dueDate),
+                    ascending ? cb.asc(taskId) : cb.desc(taskId)
+            );
+        } else {
+            predicates.add(cb.isNull(dueDate));
+            if (after != null)
+                predicates.add(afterTaskId);
+            query.orderBy(ascending ? cb.asc(taskId) : cb.desc(taskId));
+        }
+
+        query.select(task).where(predicates.toArray(new Predicate[0]));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+
+    @Override
+    public long count(TaskSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+
+        query.select(cb.count(task)).where(filters(cb, query, task, criteria).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+
+    @Override
+    public Stream<Task> stream(TaskSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+
+        query.select(task)
+                .where(filters(cb, query, task, criteria).toArray(new Predicate[0]))
+                .orderBy(cb.asc(task.get("taskId")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAMING_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(found -> {
+                    // nothing is kept in the persistence context, the heap stays flat however many tasks are read
+                    entityManager.detach(found);
+                    return found;
+                });
+    }
+
+
+    static List<Predicate> filters(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Task> task, TaskSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.projectId() != null)
+            predicates.add(cb.equal(task.get("projectId"), criteria.projectId()));
+        if (criteria.status() != null)
+            predicates.add(cb.equal(task.get("taskStatus"), criteria.status()));
+        if (criteria.priority() != null)
+            predicates.add(cb.equal(task.get("taskPriority"), criteria.priority()));
+        if (criteria.assignedToUserId() != null) {
+            Subquery<Long> assignment = query.subquery(Long.class);
+            Root<TaskUser> taskUser = assignment.from(TaskUser.class);
+            assignment.select(taskUser.get("taskUserId")).where(
+                    cb.equal(taskUser.get("task"), task),
+                    cb.equal(taskUser.get("userId"), criteria.assignedToUserId())
+            );
+            predicates.add(cb.exists(assignment));
+        }
+        return predicates;
+    }
+
+}
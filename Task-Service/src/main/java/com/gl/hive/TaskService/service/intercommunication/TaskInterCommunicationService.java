@@ -1,9 +1,28 @@
 package com.gl.hive.TaskService.service.intercommunication;
 
+import com.gl.hive.TaskService.model.response.TaskPageResponse;
 import com.gl.hive.TaskService.repository.TaskRepository;
+import com.gl.hive.TaskService.repository.TaskUserRepository;
+import com.gl.hive.shared.lib.cache.ProjectAccessCache;
+import com.gl.hive.shared.lib.cache.ProjectDTOCache;
+import com.gl.hive.shared.lib.model.dto.TaskCountsDTO;
+import com.gl.hive.shared.lib.model.dto.TaskDTO;
+import com.gl.hive.shared.lib.model.dto.TaskUserDTO;
+import com.gl.hive.shared.lib.model.enums.TaskPriority;
+import com.gl.hive.shared.lib.model.enums.TaskStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -11,10 +30,133 @@ import org.springframework.stereotype.Service;
 public class TaskInterCommunicationService {
 
     private final TaskRepository taskRepository;
+    private final TaskUserRepository taskUserRepository;
+    private final ProjectAccessCache projectAccessCache;
+    private final ProjectDTOCache projectDTOCache;
 
     public boolean validateTaskExistence(long taskId) {
         return taskRepository.findById(taskId)
                 .isPresent();
     }
 
+
+    public boolean isUserAssignedToTask(long userId, long taskId) {
+        return taskUserRepository.existsByUserIdAndTask_TaskId(userId, taskId);
+    }
+
+
+    public List<TaskDTO> findTasksByProjectId(long projectId) {
+        return toTaskDTOs(taskRepository.findTaskRowsByProjectId(projectId));
+    }
+
+
+    /**
+     * Returns a keyset page of the tasks of many projects, ordered by taskId.
+     *
+     * @param after the taskId of the last task of the previous page, or {@code null} for the first page
+     */
+    public TaskPageResponse findTasksByProjectIds(Collection<Long> projectIds, Long after, int size) {
+        if (projectIds == null || projectIds.isEmpty())
+            return TaskPageResponse.builder().tasks(List.of()).build();
+
+        // one extra row tells whether there is a next page
+        List<TaskDTO> tasks = toTaskDTOs(taskRepository.findTaskRowsByProjectIdIn(
+                projectIds, after != null ? after : 0L, PageRequest.of(0, size + 1)
+        ));
+        boolean hasNext = tasks.size() > size;
+        if (hasNext)
+            tasks = tasks.subList(0, size);
+        return TaskPageResponse.builder()
+                .tasks(tasks)
+                .nextCursor(hasNext ? tasks.get(tasks.size() - 1).getTaskId() : null)
+                .build();
+    }
+
+
+    public void evictProjectAccess(long projectId) {
+        projectAccessCache.evictProject(projectId);
+        projectDTOCache.evictProject(projectId);
+    }
+
+
+
+    public Map<Long, TaskCountsDTO> getTaskCounts(Collection<Long> projectIds) {
+        Map<Long, TaskCountsDTO> counts = new HashMap<>();
+        if (projectIds == null || projectIds.isEmpty())
+            return counts;
+
+        // projects without tasks are reported with zero counters, so the caller can reset them
+        projectIds.forEach(projectId -> counts.put(projectId, TaskCountsDTO.builder().projectId(projectId).build()));
+        taskRepository.countTasksByProjectIdIn(
+                projectIds, TaskStatus.COMPLETED, TaskStatus.OVERDUE, TaskStatus.CANCELLED, LocalDateTime.now()
+        ).forEach(row -> {
+            long projectId = ((Number) row[0]).longValue();
+            counts.put(projectId, TaskCountsDTO.builder()
+                    .projectId(projectId)
+                    .total(toLong(row[1]))
+                    .completed(toLong(row[2]))
+                    .overdue(toLong(row[3]))
+                    .build());
+        });
+        return counts;
+    }
+
+
+    /**
+     * Deletes up to {@code limit} tasks of the project with their assignments, in one short transaction.
+     *
+     * @return the number of tasks deleted; 0 once the project has no tasks left
+     */
+    @Transactional
+    public int purgeTasksOfProject(long projectId, int limit) {
+        List<Long> taskIds = taskRepository.findTaskIdsByProjectId(projectId, PageRequest.of(0, limit));
+        if (taskIds.isEmpty())
+            return 0;
+
+        taskUserRepository.deleteAllByTaskIdIn(taskIds);
+        int deleted = taskRepository.deleteAllByTaskIdIn(taskIds);
+        log.info("🗑️ purged {} tasks of the deleted project {{}} 🗑️", deleted, projectId);
+        return deleted;
+    }
+
+
+    /**
+     * Maps the task rows to {@link TaskDTO}s and fills their assignments with one more query for all of them.
+     */
+    private List<TaskDTO> toTaskDTOs(List<Object[]> rows) {
+        Map<Long, TaskDTO> tasks = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            TaskDTO task = TaskDTO.builder()
+                    .taskId((Long) row[0])
+                    .taskName((String) row[1])
+                    .description((String) row[2])
+                    .dueDate((LocalDateTime) row[3])
+                    .createdAt((LocalDateTime) row[4])
+                    .completionDate((LocalDateTime) row[5])
+                    .taskStatus((TaskStatus) row[6])
+                    .taskPriority((TaskPriority) row[7])
+                    .hasOverdue((Boolean) row[8])
+                    .createdByUserId((Long) row[9])
+                    .projectId((Long) row[10])
+                    .assignedUsersDTO(new ArrayList<>())
+                    .build();
+            tasks.put(task.getTaskId(), task);
+        }
+        if (tasks.isEmpty())
+            return new ArrayList<>();
+
+        for (Object[] row : taskUserRepository.findAssignmentRowsByTaskIdIn(tasks.keySet())) {
+            tasks.get((Long) row[0]).getAssignedUsersDTO().add(TaskUserDTO.builder()
+                    .taskUserId((Long) row[1])
+                    .userId((Long) row[2])
+                    .build());
+        }
+        return new ArrayList<>(tasks.values());
+    }
+
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
 }
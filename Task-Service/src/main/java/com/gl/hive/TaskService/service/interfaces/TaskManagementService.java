@@ -1,14 +1,18 @@
 package com.gl.hive.TaskService.service.interfaces;
 
+import com.gl.hive.TaskService.model.request.BulkTaskUpdateRequest;
 import com.gl.hive.TaskService.model.request.TaskRequest;
+import com.gl.hive.TaskService.model.response.BulkTaskResponse;
+import com.gl.hive.TaskService.model.response.BulkTaskUpdateResponse;
 import com.gl.hive.TaskService.model.response.TaskResponse;
+import com.gl.hive.TaskService.model.response.TaskSearchResponse;
+import com.gl.hive.TaskService.repository.search.TaskSearchCriteria;
 import com.gl.hive.shared.lib.exceptions.NotLeaderOfProjectException;
 import com.gl.hive.shared.lib.exceptions.NotMemberOfProjectException;
 import com.gl.hive.shared.lib.exceptions.ResourceAlreadyExistsException;
 import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
 import com.gl.hive.shared.lib.model.enums.Role;
-import com.gl.hive.shared.lib.model.enums.TaskPriority;
-import com.gl.hive.shared.lib.model.enums.TaskStatus;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -27,6 +31,35 @@ public interface TaskManagementService {
             throws ResourceNotFoundException, ResourceAlreadyExistsException;
 
 
+    /**
+     * Creates many tasks for a given project in one transaction. The user is authorized once for the project, and
+     * the tasks that are invalid or whose name is already taken are reported without failing the others.
+     *
+     * @param projectId    the ID of the project to create the tasks for
+     * @param taskRequests the details of the tasks to create
+     * @return the result of each of the tasks as {@link BulkTaskResponse}
+     * @throws ResourceNotFoundException   if the project with the given ID is not found
+     * @throws NotMemberOfProjectException if the requesting user is not a member of the project
+     * @throws NotLeaderOfProjectException if the requesting user is not leader or admin of the project
+     */
+    BulkTaskResponse createNewTasks(Long projectId, List<TaskRequest> taskRequests)
+            throws ResourceNotFoundException, NotMemberOfProjectException, NotLeaderOfProjectException;
+
+
+    /**
+     * Applies the same changes to many tasks of a project with set-based updates; the user is authorized once for the project.
+     *
+     * @param projectId the ID of the project of the tasks
+     * @param request   the tasks to update, as ids or filters, and the changes to apply
+     * @return the number of matched and updated tasks as {@link BulkTaskUpdateResponse}
+     * @throws ResourceNotFoundException   if the project with the given ID is not found
+     * @throws NotMemberOfProjectException if the requesting user is not a member of the project
+     * @throws NotLeaderOfProjectException if the requesting user is not leader or admin of the project
+     */
+    BulkTaskUpdateResponse updateTasks(Long projectId, BulkTaskUpdateRequest request)
+            throws ResourceNotFoundException, NotMemberOfProjectException, NotLeaderOfProjectException;
+
+
     /**
      * Updates the details of an existing task.
      *
@@ -65,14 +98,17 @@ public interface TaskManagementService {
 
 
     /**
-     * Searches for tasks based on the given criteria.
+     * Searches for the tasks matching all of the given criteria, one keyset page at a time.
      *
-     * @param status            the status of the tasks to search for (optional)
-     * @param priority          the priority of the tasks to search for (optional)
-     * @param projectId         the ID of the project that the tasks belong to (optional)
-     * @param assignedTo_UserId the ID of the user that the tasks are assigned to (optional)
-     * @return a list of {@link TaskResponse TaskResponses} that match the search criteria
+     * @param criteria  the filters; the ones that are {@code null} are not applied
+     * @param sortBy    the field to sort by
+     * @param direction the sort direction
+     * @param after     the cursor returned with the previous page, or {@code null} for the first page
+     * @param size      the maximum number of tasks in the page
+     * @param withTotal whether to also count all the matching tasks
+     * @return the page as {@link TaskSearchResponse}
      */
-    List<TaskResponse> searchTaskBasedOnDifferentCriteria(TaskStatus status, TaskPriority priority, Long projectId, Long assignedTo_UserId);
+    TaskSearchResponse searchTaskBasedOnDifferentCriteria(TaskSearchCriteria criteria, TaskSearchCriteria.SortBy sortBy,
+                                                          Sort.Direction direction, String after, int size, boolean withTotal);
 
 }
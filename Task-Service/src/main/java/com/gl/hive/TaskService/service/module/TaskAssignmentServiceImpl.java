@@ -3,10 +3,8 @@ package com.gl.hive.TaskService.service.module;
 import com.gl.hive.TaskService.fegin.client.AuthUserFeignClient;
 import com.gl.hive.TaskService.fegin.client.ProjectUtilFeignClient;
 import com.gl.hive.TaskService.model.entity.Task;
-import com.gl.hive.TaskService.model.entity.TaskUser;
 import com.gl.hive.TaskService.model.request.AssignTaskRequest;
 import com.gl.hive.TaskService.model.response.TaskResponse;
-import com.gl.hive.TaskService.repository.TaskRepository;
 import com.gl.hive.TaskService.repository.TaskUserRepository;
 import com.gl.hive.TaskService.service.interfaces.TaskAssignmentService;
 import com.gl.hive.TaskService.util.ProjectTaskValidationUtils;
@@ -22,11 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.*;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
@@ -37,7 +31,6 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 @Service
 @RequiredArgsConstructor
 public class TaskAssignmentServiceImpl implements TaskAssignmentService {
-    private final TaskRepository taskRepository;
 
     private final TaskUserRepository taskUserRepository;
     private final AuthUserFeignClient authUserFeignClient;
@@ -100,39 +93,12 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
         List<UserDTO> members = taskAssignmentUtils.getUsers(projectDTO.getProjectId());
 
         // 5. Assign the task to all users in the list
-        assignTaskToAllUsersInTheList(task, responseMap, members);
+        taskAssignmentUtils.assignTaskToMembers(task, members, responseMap);
 
         // 6. Build and return a TaskResponse with information about the assigned task and its assigned users
         return taskAssignmentUtils.buildTaskResponse_AssignUsers(task, projectDTO, responseMap);
     }
 
-    private void assignTaskToAllUsersInTheList(Task task, Map<String, String> responseMap, List<UserDTO> members) {
-        AtomicReference<String> alreadyAssignedMessage = new AtomicReference<>();
-        AtomicReference<String> successMessage = new AtomicReference<>();
-        members.forEach(memberDTO -> {
-
-            alreadyAssignedMessage.set("❌😖 Fail: Task is already assigned to user '" + memberDTO.getActualUsername() + "' 😖❌");
-            successMessage.set("✅ Success: Task assigned to user '" + memberDTO.getActualUsername() + "' ✅");
-
-            // check if the task is already assigned to the user; skip ahead, and add a response to the map
-            boolean isTaskAlreadyAssigned = taskUserRepository.existsByUserIdAndTask_TaskId(memberDTO.getUserId(), task.getTaskId());
-            if (isTaskAlreadyAssigned)
-                responseMap.put(memberDTO.getUsername(), String.valueOf(alreadyAssignedMessage));
-
-            else {
-                responseMap.put(memberDTO.getUsername(), String.valueOf(successMessage));
-
-                TaskUser taskUser = TaskUser.builder()
-                        .task(task)
-                        .userId(memberDTO.getUserId())
-                        .build();
-                taskUserRepository.save(taskUser);
-            }
-
-        });
-    }
-
-
     /**
      * {@inheritDoc}
      */
@@ -141,14 +107,21 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
     public MapResponse unAssignTaskFromUser_s(AssignTaskRequest assignTaskRequest) {
         long projectId = assignTaskRequest.getProjectId();
         long taskId = assignTaskRequest.getTaskId();
-        List<Long> userIdList = assignTaskRequest.getUserIdList();
+        Set<Long> userIds = new LinkedHashSet<>(assignTaskRequest.getUserIdList());
+        userIds.remove(null);
 
         // 1. Find the task and validate user leadership and task belonging to project.
-        validateUserLeadershipAndProjectBelonging(taskId, projectId);
-        Task task = repositoryUtils.find_TaskById_OrElseThrow_ResourceNotFoundException(taskId);
+        Task task = validateUserLeadershipAndProjectBelonging(taskId, projectId);
 
-        // 2. Unassign the task from the user(s) and return a map as response.
-        return unAssignTaskFromUsersList(userIdList, new MapResponse(), task);
+        // 2. Unassign the task from the requested user(s) that are assigned, with one DELETE
+        List<Long> assigned = userIds.isEmpty()
+                ? List.of()
+                : taskUserRepository.findUserIdsByTaskIdAndUserIdIn(taskId, userIds);
+        if (!assigned.isEmpty())
+            taskUserRepository.deleteByTaskIdAndUserIdIn(taskId, assigned);
+
+        // 3. Return a map as response.
+        return buildUnassignResponse(task, userIds, Set.copyOf(assigned));
     }
 
 
@@ -162,21 +135,19 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
         long taskId = assignTaskRequest.getTaskId();
 
         // 1. Find the task and validate user leadership and task belonging to project.
-        validateUserLeadershipAndProjectBelonging(taskId, projectId);
-        Task task = repositoryUtils.find_TaskById_OrElseThrow_ResourceNotFoundException(taskId);
+        Task task = validateUserLeadershipAndProjectBelonging(taskId, projectId);
 
-        // 2. Find the UserIDs of the assignedUsers to the task.
-        List<Long> assignedUser_sToTask = taskUserRepository.findByTask(task)
-                .stream()
-                .map(TaskUser::getUserId)
-                .toList();
+        // 2. Find the UserIDs of the assignedUsers to the task, and unassign all of them with one DELETE
+        List<Long> assignedUser_sToTask = taskUserRepository.findUserIdsByTaskId(taskId);
+        if (!assignedUser_sToTask.isEmpty())
+            taskUserRepository.deleteAllByTaskId(taskId);
 
-        // 3. Unassign the task from the user(s) and return a map as response.
-        return unAssignTaskFromUsersList(assignedUser_sToTask, new MapResponse(), task);
+        // 3. Return a map as response.
+        return buildUnassignResponse(task, assignedUser_sToTask, Set.copyOf(assignedUser_sToTask));
     }
 
 
-    private void validateUserLeadershipAndProjectBelonging(long taskId, long projectId) {
+    private Task validateUserLeadershipAndProjectBelonging(long taskId, long projectId) {
         ProjectDTO projectDTO = projectUtilFeignClient.getProjectAsDTO(projectId);
         Task task = repositoryUtils.find_TaskById_OrElseThrow_ResourceNotFoundException(taskId);
 
@@ -185,28 +156,24 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
 
         // b) Check whether task belongs to the project.
         taskValidationUtils.handle_TaskBelongingToProject(task, projectDTO.getProjectId());
+        return task;
     }
 
-    private MapResponse unAssignTaskFromUsersList(List<Long> userIdList, MapResponse mapResponse, Task task) {
-        String memberNotPresentMessage = "😊 It seems no member was found that the task '" + task.getTaskName() + "' is assigned 😊";
-        if (userIdList.isEmpty())
+    private MapResponse buildUnassignResponse(Task task, Collection<Long> userIds, Set<Long> unassigned) {
+        MapResponse mapResponse = new MapResponse();
+        if (userIds.isEmpty()) {
+            String memberNotPresentMessage = "😊 It seems no member was found that the task '" + task.getTaskName() + "' is assigned 😊";
             mapResponse.getMapResponse().put("NoMemberFound?", memberNotPresentMessage);
+            return mapResponse;
+        }
 
-        userIdList.forEach(userId -> {
-            // a) find the user
-            UserDTO userDTO = authUserFeignClient.getUserDTOById(userId);
-            String userDTO_Username = userDTO.getUsername();
-
-            // b) find the task associated with the user and unassign (delete) it if it is present
-            Optional<TaskUser> assignedTaskToUserToRemove = taskUserRepository.findByUserId(userDTO.getUserId());
-            if (assignedTaskToUserToRemove.isPresent()) {
-                // c) remove association of taskUser from task
-                task.getAssignedUsers().remove(assignedTaskToUserToRemove.get());
-                taskRepository.save(task);
-
-                // d) now delete the TaskUser
-                taskUserRepository.delete(assignedTaskToUserToRemove.get());
+        // the usernames of all the users with one call
+        Map<Long, String> usernames = new HashMap<>();
+        authUserFeignClient.getUserDTOsByIds(userIds).forEach(userDTO -> usernames.put(userDTO.getUserId(), userDTO.getUsername()));
 
+        userIds.forEach(userId -> {
+            String userDTO_Username = usernames.getOrDefault(userId, userId.toString());
+            if (unassigned.contains(userId)) {
                 String unassignSuccessMessage = "Task '" + task.getTaskName() + "' UnAssigned from User '" + userDTO_Username + "' ✅";
                 mapResponse.getMapResponse().put(userDTO_Username, unassignSuccessMessage);
             } else {
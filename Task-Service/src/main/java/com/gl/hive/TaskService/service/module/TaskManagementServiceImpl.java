@@ -1,33 +1,42 @@
 package com.gl.hive.TaskService.service.module;
 
 import com.gl.hive.TaskService.fegin.client.AuthUserFeignClient;
-import com.gl.hive.TaskService.fegin.client.ProjectUtilFeignClient;
 import com.gl.hive.TaskService.model.entity.Task;
-import com.gl.hive.TaskService.model.entity.TaskUser;
+import com.gl.hive.TaskService.model.entity.listener.TaskProgressSnapshot;
+import com.gl.hive.TaskService.model.request.BulkTaskUpdateRequest;
 import com.gl.hive.TaskService.model.request.TaskRequest;
+import com.gl.hive.TaskService.model.response.BulkTaskResponse;
+import com.gl.hive.TaskService.model.response.BulkTaskUpdateResponse;
 import com.gl.hive.TaskService.model.response.TaskResponse;
+import com.gl.hive.TaskService.model.response.TaskSearchResponse;
 import com.gl.hive.TaskService.repository.TaskRepository;
 import com.gl.hive.TaskService.repository.TaskUserRepository;
+import com.gl.hive.TaskService.repository.search.TaskSearchCriteria;
+import com.gl.hive.TaskService.repository.search.TaskPatch;
+import com.gl.hive.TaskService.repository.search.TaskSearchCursor;
 import com.gl.hive.TaskService.service.interfaces.TaskManagementService;
+import com.gl.hive.TaskService.util.ProjectTaskValidationUtils;
 import com.gl.hive.TaskService.util.RepositoryUtils;
+import com.gl.hive.TaskService.util.TaskEventPublisher;
 import com.gl.hive.TaskService.util.TaskUtils;
+import com.gl.hive.shared.lib.exceptions.HiveException;
 import com.gl.hive.shared.lib.exceptions.NotLeaderOfProjectException;
 import com.gl.hive.shared.lib.exceptions.NotMemberOfProjectException;
 import com.gl.hive.shared.lib.exceptions.ResourceAlreadyExistsException;
+import com.gl.hive.shared.lib.model.dto.ProjectAccessDTO;
+import com.gl.hive.shared.lib.model.dto.TaskEventDTO;
 import com.gl.hive.shared.lib.model.enums.TaskPriority;
 import com.gl.hive.shared.lib.model.enums.TaskStatus;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 import static com.gl.hive.shared.lib.model.enums.TaskStatus.IN_PROGRESS;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
@@ -48,9 +57,14 @@ public class TaskManagementServiceImpl implements TaskManagementService {
     private final RepositoryUtils repositoryUtils;
     private final TaskUtils taskUtils;
     private final AuthUserFeignClient authUserFeignClient;
-    private final ProjectUtilFeignClient projectUtilFeignClient;
+    private final ProjectTaskValidationUtils projectTaskValidationUtils;
     private final ModelMapper mapper;
     private final HttpServletRequest httpServletRequest;
+    private final TaskEventPublisher taskEventPublisher;
+
+    private static final int MAX_BULK_TASKS = 5_000;
+    private static final int NAME_CHECK_CHUNK_SIZE = 1_000;
+    private static final int UPDATE_CHUNK_SIZE = 1_000;
 
     /**
      * {@inheritDoc}
@@ -69,8 +83,21 @@ public class TaskManagementServiceImpl implements TaskManagementService {
     }
 
     private void validateUniqueName_Membership_Leadership_OfTask(Long projectId, TaskRequest taskRequest, long currentUserId) {
+        validateMembership_Leadership_OfProject(projectId, currentUserId);
+
+        // Check if a task with the same name already exists in the project
+        if (taskUtils.doesTaskAlreadyExists(taskRequest, projectId))
+            throw new ResourceAlreadyExistsException(
+                    "⭕ Task '" + taskRequest.getTaskName() + "' already exists in db.. provide a unique name ⭕",
+                    BAD_REQUEST,
+                    BAD_REQUEST.value()
+            );
+    }
+
+    private void validateMembership_Leadership_OfProject(Long projectId, long currentUserId) {
         // Check if the currentUser is a member of the project
-        if (!projectUtilFeignClient.isMemberOfProject(projectId, currentUserId))
+        ProjectAccessDTO access = projectTaskValidationUtils.getProjectAccess(projectId, currentUserId);
+        if (!access.isMember())
             throw new NotMemberOfProjectException(
                     "Ⓜ️👥 You are not a member of THIS project 👥Ⓜ️",
                     FORBIDDEN,
@@ -78,33 +105,174 @@ public class TaskManagementServiceImpl implements TaskManagementService {
             );
 
         // Check if the currentUser is the leader or admin of the project
-        if (!projectUtilFeignClient.isLeaderOrAdminOfProject(projectId, currentUserId))
+        if (!access.isLeaderOrAdmin())
             throw new NotLeaderOfProjectException(
                     "👮🏻You are not the Leader or Admin of THIS project👮🏻",
                     FORBIDDEN,
                     FORBIDDEN.value()
             );
-
-        // Check if a task with the same name already exists in the project
-        if (taskUtils.doesTaskAlreadyExists(taskRequest, projectId))
-            throw new ResourceAlreadyExistsException(
-                    "⭕ Task '" + taskRequest.getTaskName() + "' already exists in db.. provide a unique name ⭕",
-                    BAD_REQUEST,
-                    BAD_REQUEST.value()
-            );
     }
 
     private Task buildAndSaveTask(Long projectId, TaskRequest taskRequest, long currentUserId) {
+        return taskRepository.save(buildTask(projectId, taskRequest, currentUserId, LocalDateTime.now()));
+    }
+
+    private Task buildTask(Long projectId, TaskRequest taskRequest, long currentUserId, LocalDateTime createdAt) {
         Task task = mapper.map(taskRequest, Task.class);
         task.setCreatedByUserId(currentUserId);
         task.setProjectId(projectId);
-        task.setCreatedAt(LocalDateTime.now());
+        task.setCreatedAt(createdAt);
         task.setTaskStatus(IN_PROGRESS);
 
         // Do NOT auto-assign the creator as a TaskUser
         // Only assign users via the explicit assignment endpoint
 
-        return taskRepository.save(task);
+        return task;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public BulkTaskResponse createNewTasks(Long projectId, List<TaskRequest> taskRequests) {
+        if (taskRequests.size() > MAX_BULK_TASKS)
+            throw new HiveException("At most " + MAX_BULK_TASKS + " tasks can be created at once", BAD_REQUEST, BAD_REQUEST.value());
+
+        String requestHeader = httpServletRequest.getHeader(AUTHORIZATION);
+        long currentUserDTO_Id = authUserFeignClient.getCurrentUsers_Id(requestHeader);
+        validateMembership_Leadership_OfProject(projectId, currentUserDTO_Id);
+
+        // 1. Validate the tasks on their own and against each other; the names are compared ignoring the case, like the
+        // collation of task_name does
+        LocalDateTime now = LocalDateTime.now();
+        BulkTaskResponse.Result[] results = new BulkTaskResponse.Result[taskRequests.size()];
+        Map<String, Integer> indexByName = new LinkedHashMap<>();
+        for (int i = 0; i < taskRequests.size(); i++) {
+            TaskRequest taskRequest = taskRequests.get(i);
+            String taskName = taskRequest != null ? taskRequest.getTaskName() : null;
+            if (taskName == null || taskName.isBlank())
+                results[i] = failedResult(i, taskName, "Task name is required");
+            else if (taskRequest.getDueDate() != null && taskRequest.getDueDate().isBefore(now))
+                results[i] = failedResult(i, taskName, "Due date must be in the present or future");
+            else if (indexByName.putIfAbsent(nameKey(taskName), i) != null)
+                results[i] = failedResult(i, taskName, "Task '" + taskName + "' is repeated in the request");
+        }
+
+        // 2. Check the uniqueness of all the names in the project with one query per chunk
+        List<String> names = indexByName.values().stream().map(index -> taskRequests.get(index).getTaskName()).toList();
+        for (int from = 0; from < names.size(); from += NAME_CHECK_CHUNK_SIZE) {
+            List<String> chunk = names.subList(from, Math.min(from + NAME_CHECK_CHUNK_SIZE, names.size()));
+            taskRepository.findTaskNamesByProjectIdAndTaskNameIn(projectId, chunk).forEach(existing -> {
+                Integer index = indexByName.remove(nameKey(existing));
+                if (index != null) {
+                    String taskName = taskRequests.get(index).getTaskName();
+                    results[index] = failedResult(index, taskName, "Task '" + existing + "' already exists in this project");
+                }
+            });
+        }
+
+        // 3. Insert the remaining tasks; their ids come from the pooled sequence, so the inserts are sent in JDBC batches
+        List<Task> tasks = new ArrayList<>(indexByName.size());
+        indexByName.values().forEach(index -> tasks.add(buildTask(projectId, taskRequests.get(index), currentUserDTO_Id, now)));
+        taskRepository.saveAll(tasks);
+
+        int i = 0;
+        for (Integer index : indexByName.values()) {
+            Task task = tasks.get(i++);
+            results[index] = BulkTaskResponse.Result.builder()
+                    .index(index)
+                    .taskId(task.getTaskId())
+                    .taskName(task.getTaskName())
+                    .success(true)
+                    .message("Task created")
+                    .build();
+        }
+
+        log.info("🆕 {} of {} tasks created in project {{}} 🆕", tasks.size(), taskRequests.size(), projectId);
+        return BulkTaskResponse.builder()
+                .succeeded(tasks.size())
+                .failed(taskRequests.size() - tasks.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private static String nameKey(String taskName) {
+        return taskName.toLowerCase(Locale.ROOT);
+    }
+
+    private static BulkTaskResponse.Result failedResult(int index, String taskName, String message) {
+        return BulkTaskResponse.Result.builder()
+                .index(index)
+                .taskName(taskName)
+                .success(false)
+                .message(message)
+                .build();
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public BulkTaskUpdateResponse updateTasks(Long projectId, BulkTaskUpdateRequest request) {
+        TaskPatch patch = new TaskPatch(request.getNewStatus(), request.getNewPriority(), request.getNewDueDate());
+        if (patch.isEmpty())
+            throw new HiveException("Nothing to update, provide a new status, priority or due date", BAD_REQUEST, BAD_REQUEST.value());
+        LocalDateTime now = LocalDateTime.now();
+        if (patch.dueDate() != null && patch.dueDate().isBefore(now))
+            throw new HiveException("Due date must be in the present or future", BAD_REQUEST, BAD_REQUEST.value());
+
+        String requestHeader = httpServletRequest.getHeader(AUTHORIZATION);
+        long currentUserDTO_Id = authUserFeignClient.getCurrentUsers_Id(requestHeader);
+        validateMembership_Leadership_OfProject(projectId, currentUserDTO_Id);
+
+        // 1. Read only what the progress of the project depends on, for the matched tasks
+        TaskSearchCriteria criteria = new TaskSearchCriteria(request.getStatus(), request.getPriority(), null, request.getAssignedTo());
+        List<Object[]> rows = taskRepository.findProgressRows(projectId, criteria, request.getTaskIds(), MAX_BULK_TASKS + 1);
+        if (rows.size() > MAX_BULK_TASKS)
+            throw new HiveException("More than " + MAX_BULK_TASKS + " tasks match, narrow the filters", BAD_REQUEST, BAD_REQUEST.value());
+
+        // 2. Keep the tasks the patch changes; the ones being completed also get their completion date
+        List<Object[]> changedRows = new ArrayList<>();
+        List<Long> completingIds = new ArrayList<>();
+        List<Long> otherIds = new ArrayList<>();
+        for (Object[] row : rows) {
+            TaskStatus status = (TaskStatus) row[1];
+            if (!patch.changes(status, (TaskPriority) row[2], (LocalDateTime) row[3]))
+                continue;
+            changedRows.add(row);
+            if (patch.taskStatus() == TaskStatus.COMPLETED && status != TaskStatus.COMPLETED)
+                completingIds.add((Long) row[0]);
+            else
+                otherIds.add((Long) row[0]);
+        }
+
+        // 3. Write the changes with one UPDATE per chunk
+        int updated = 0;
+        for (int from = 0; from < completingIds.size(); from += UPDATE_CHUNK_SIZE)
+            updated += taskRepository.applyPatch(completingIds.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, completingIds.size())), patch, true, now);
+        for (int from = 0; from < otherIds.size(); from += UPDATE_CHUNK_SIZE)
+            updated += taskRepository.applyPatch(otherIds.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, otherIds.size())), patch, false, now);
+
+        // 4. The UPDATEs bypass the entity listener, so the lifecycle event of every changed task is published here
+        for (Object[] row : changedRows) {
+            TaskProgressSnapshot previous = TaskProgressSnapshot.of(projectId, (TaskStatus) row[1], (LocalDateTime) row[3]);
+            TaskProgressSnapshot current = TaskProgressSnapshot.of(
+                    projectId,
+                    patch.taskStatus() != null ? patch.taskStatus() : (TaskStatus) row[1],
+                    patch.dueDate() != null ? patch.dueDate() : (LocalDateTime) row[3]
+            );
+            taskEventPublisher.publish(TaskEventDTO.Type.UPDATED, (Long) row[0], previous, current);
+        }
+
+        log.info("✏️ {} of {} matched tasks updated in project {{}} ✏️", updated, rows.size(), projectId);
+        return BulkTaskUpdateResponse.builder()
+                .matched(rows.size())
+                .updated(updated)
+                .build();
     }
 
 
@@ -151,7 +319,7 @@ public class TaskManagementServiceImpl implements TaskManagementService {
         String requestHeader = httpServletRequest.getHeader(AUTHORIZATION);
         long currentUserDTOs_Id = authUserFeignClient.getCurrentUsers_Id(requestHeader);
 
-        if (!projectUtilFeignClient.isLeaderOrAdminOfProject(projectId, currentUserDTOs_Id))
+        if (!projectTaskValidationUtils.getProjectAccess(projectId, currentUserDTOs_Id).isLeaderOrAdmin())
             throw new NotLeaderOfProjectException(
                     "👮🏻 You are not a leader/admin of THIS project! 👮🏻",
                     FORBIDDEN,
@@ -166,35 +334,26 @@ public class TaskManagementServiceImpl implements TaskManagementService {
      * {@inheritDoc}
      */
     @Override
-    public List<TaskResponse> searchTaskBasedOnDifferentCriteria(TaskStatus status, TaskPriority priority, Long projectId, Long assignedTo_UserId) {
-        // Using Set since I don't want any duplicate searches (tasks) to get added to the list!
-        Set<Task> taskList = new HashSet<>();
-        List<TaskResponse> taskResponses = new ArrayList<>();
-
-        if (status != null)
-            taskList.addAll(taskRepository.findByTaskStatus(status));
-
-        if (priority != null)
-            taskList.addAll(taskRepository.findByTaskPriority(priority));
-
-        if (projectId != null)
-            taskList.addAll(taskRepository.findByProjectId(projectId));
-
-        if (assignedTo_UserId != null) {
-            taskList.addAll(
-                    // a) first finds the taskUser since the task and user are mapped together using this class.
-                    taskUserRepository.findTaskUserByUserId(assignedTo_UserId)
-                            .stream() // b) then stream over it and grab out the task!
-                            .map(TaskUser::getTask)
-                            .toList()
-            );
+    public TaskSearchResponse searchTaskBasedOnDifferentCriteria(TaskSearchCriteria criteria, TaskSearchCriteria.SortBy sortBy,
+                                                                 Sort.Direction direction, String after, int size, boolean withTotal) {
+        TaskSearchCursor cursor = TaskSearchCursor.parse(after, sortBy);
+
+        // one extra row tells whether there is a next page
+        List<Task> tasks = taskRepository.search(criteria, sortBy, direction, cursor, size + 1);
+        boolean hasNext = tasks.size() > size;
+        if (hasNext)
+            tasks = tasks.subList(0, size);
+
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = tasks.get(tasks.size() - 1);
+            nextCursor = new TaskSearchCursor(last.getDueDate(), last.getTaskId()).encode(sortBy);
         }
-
-        taskList.forEach(
-                task -> taskResponses.add(taskUtils.buildTaskResponse(task))
-        );
-
-        return taskResponses;
+        return TaskSearchResponse.builder()
+                .tasks(taskUtils.buildTaskResponses(tasks))
+                .nextCursor(nextCursor)
+                .total(withTotal ? taskRepository.count(criteria) : null)
+                .build();
     }
 
 }
@@ -0,0 +1,69 @@
+package com.gl.hive.TaskService.service.module.export;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exports the tasks as CSV (RFC 4180), one header line and one line per task.
+ */
+@Service
+public class CsvTaskExportWriter implements TaskExportWriter {
+
+    private static final String HEADER = "taskId,taskName,description,taskStatus,taskPriority,dueDate,createdAt,completionDate,hasOverdue,projectId,createdByUserId";
+
+    @Override
+    public TaskExportFormat format() {
+        return TaskExportFormat.CSV;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(Stream<Task> tasks, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+
+        Iterator<Task> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            Task task = iterator.next();
+            writer.write(String.valueOf(task.getTaskId()));
+            writeField(writer, task.getTaskName());
+            writeField(writer, task.getDescription());
+            writeField(writer, task.getTaskStatus());
+            writeField(writer, task.getTaskPriority());
+            writeField(writer, task.getDueDate());
+            writeField(writer, task.getCreatedAt());
+            writeField(writer, task.getCompletionDate());
+            writeField(writer, task.isHasOverdue());
+            writeField(writer, task.getProjectId());
+            writeField(writer, task.getCreatedByUserId());
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+
+    private static void writeField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null)
+            return;
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.gl.hive.TaskService.service.module.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gl.hive.TaskService.model.entity.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exports the tasks as newline delimited JSON, one JSON object per line.
+ */
+@Service
+@RequiredArgsConstructor
+public class NdjsonTaskExportWriter implements TaskExportWriter {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public TaskExportFormat format() {
+        return TaskExportFormat.NDJSON;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(Stream<Task> tasks, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        Iterator<Task> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            Task task = iterator.next();
+            generator.writeStartObject();
+            generator.writeNumberField("taskId", task.getTaskId());
+            generator.writeStringField("taskName", task.getTaskName());
+            generator.writeStringField("description", task.getDescription());
+            generator.writeStringField("taskStatus", task.getTaskStatus() != null ? task.getTaskStatus().name() : null);
+            generator.writeStringField("taskPriority", task.getTaskPriority() != null ? task.getTaskPriority().name() : null);
+            writeDateField(generator, "dueDate", task.getDueDate());
+            writeDateField(generator, "createdAt", task.getCreatedAt());
+            writeDateField(generator, "completionDate", task.getCompletionDate());
+            generator.writeBooleanField("hasOverdue", task.isHasOverdue());
+            generator.writeObjectField("projectId", task.getProjectId());
+            generator.writeObjectField("createdByUserId", task.getCreatedByUserId());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+
+
+    private static void writeDateField(JsonGenerator generator, String name, LocalDateTime value) throws IOException {
+        generator.writeStringField(name, value != null ? value.toString() : null);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.gl.hive.TaskService.service.module.export;
+
+import com.gl.hive.TaskService.model.entity.TaskExportJob;
+import com.gl.hive.shared.lib.exceptions.HiveException;
+import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import static org.springframework.http.HttpHeaders.*;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+/**
+ * Forwards the download of an export to its owner instance, the only one that has the file.
+ * <p>
+ * The gateway balances the requests over all the instances, so a download usually reaches another one. The request is
+ * sent on with its credentials and its range and conditional headers, and the answer of the owner is streamed back as is,
+ * so the resumable downloads and the ETag work the same through any instance.
+ */
+@Slf4j
+@Component
+public class TaskExportDownloadForwarder {
+
+    /* marks a forwarded request, so an instance that is not the owner anymore answers it instead of forwarding it again */
+    static final String FORWARDED_HEADER = "X-Export-Forwarded";
+
+    private static final List<String> REQUEST_HEADERS = List.of(AUTHORIZATION, RANGE, IF_RANGE, IF_NONE_MATCH);
+    private static final List<String> RESPONSE_HEADERS = List.of(
+            CONTENT_TYPE, CONTENT_LENGTH, CONTENT_RANGE, ACCEPT_RANGES, CONTENT_DISPOSITION, ETAG, "Repr-Digest"
+    );
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public ResponseEntity<StreamingResponseBody> forward(TaskExportJob job, HttpServletRequest request) {
+        if (request.getHeader(FORWARDED_HEADER) != null)
+            throw new ResourceNotFoundException("😖 The file of export {" + job.getJobId() + "} was not found 😖", NOT_FOUND, NOT_FOUND.value());
+
+        HttpRequest.Builder forwarded = HttpRequest.newBuilder(URI.create("http://" + job.getOwnerInstance() + request.getRequestURI()))
+                .header(FORWARDED_HEADER, "true")
+                .GET();
+        for (String name : REQUEST_HEADERS) {
+            String value = request.getHeader(name);
+            if (value != null) forwarded.header(name, value);
+        }
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(forwarded.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw unreachable(job, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unreachable(job, e);
+        }
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        for (String name : RESPONSE_HEADERS)
+            response.headers().allValues(name).forEach(value -> httpHeaders.add(name, value));
+
+        return ResponseEntity
+                .status(response.statusCode())
+                .headers(httpHeaders)
+                .body(outputStream -> {
+                    try (InputStream body = response.body()) {
+                        body.transferTo(outputStream);
+                    }
+                });
+    }
+
+
+    private static HiveException unreachable(TaskExportJob job, Exception e) {
+        log.warn("⚠️ could not forward the download of export {{}} to {}: {} ⚠️", job.getJobId(), job.getOwnerInstance(), e.getMessage());
+        return new HiveException("😴 The instance holding export {" + job.getJobId() + "} is not reachable, try again later 😴", SERVICE_UNAVAILABLE, SERVICE_UNAVAILABLE.value());
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.gl.hive.TaskService.service.module.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * The formats the tasks can be exported to.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskExportFormat {
+
+    PDF(MediaType.APPLICATION_PDF, "pdf"),
+    CSV(new MediaType("text", "csv"), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+}
@@ -0,0 +1,282 @@
+package com.gl.hive.TaskService.service.module.export;
+
+import com.gl.hive.TaskService.fegin.client.AuthUserFeignClient;
+import com.gl.hive.TaskService.model.entity.TaskExportJob;
+import com.gl.hive.TaskService.model.response.TaskExportJobResponse;
+import com.gl.hive.TaskService.repository.TaskExportJobRepository;
+import com.gl.hive.TaskService.repository.search.TaskSearchCriteria;
+import com.gl.hive.shared.lib.exceptions.HiveException;
+import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpStatus.*;
+
+/**
+ * Runs the exports of tasks in the background.
+ * <p>
+ * A submitted job is saved and queued on the bounded, low priority export pool, so a large export never holds a request
+ * thread and survives the client going away. The file is written next to its final name and moved into place once
+ * complete with its SHA-256, so a file that can be downloaded is always whole; it is kept until the job expires.
+ * <p>
+ * A job is only visible to the user who submitted it. The files are local to the instance that ran the job, so every
+ * job records its owner instance, which serves its downloads and is the only one to expire it. The jobs an instance left
+ * queued or running when it stopped are failed when it starts again.
+ */
+@Slf4j
+@Service
+public class TaskExportJobService {
+
+    private final TaskExportJobRepository taskExportJobRepository;
+    private final TaskExportService taskExportService;
+    private final ThreadPoolTaskExecutor taskExportExecutor;
+    private final AuthUserFeignClient authUserFeignClient;
+    private final HttpServletRequest httpServletRequest;
+    private final Path directory;
+    private final Duration ttl;
+    private final String instanceId;
+
+    public TaskExportJobService(TaskExportJobRepository taskExportJobRepository,
+                                TaskExportService taskExportService,
+                                @Qualifier("taskExportExecutor") ThreadPoolTaskExecutor taskExportExecutor,
+                                AuthUserFeignClient authUserFeignClient,
+                                HttpServletRequest httpServletRequest,
+                                @Value("${task.export.directory:${java.io.tmpdir}/hive-task-exports}") Path directory,
+                                @Value("${task.export.ttl:PT24H}") Duration ttl,
+                                @Value("${task.export.instance-id:${spring.cloud.client.hostname}:${server.port}}") String instanceId) throws IOException {
+        this.taskExportJobRepository = taskExportJobRepository;
+        this.taskExportService = taskExportService;
+        this.taskExportExecutor = taskExportExecutor;
+        this.authUserFeignClient = authUserFeignClient;
+        this.httpServletRequest = httpServletRequest;
+        this.directory = Files.createDirectories(directory);
+        this.ttl = ttl;
+        this.instanceId = instanceId;
+    }
+
+
+    /**
+     * Fails the jobs this instance left queued or running when it stopped, they will never finish.
+     */
+    @PostConstruct
+    public void failOrphanedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = taskExportJobRepository.failAll(
+                instanceId,
+                List.of(TaskExportJob.Status.QUEUED, TaskExportJob.Status.RUNNING),
+                TaskExportJob.Status.FAILED,
+                "interrupted, the instance was restarted",
+                now,
+                now.plus(ttl)
+        );
+        if (failed > 0)
+            log.warn("⚠️ {} task exports interrupted by the restart of {{}} were failed ⚠️", failed, instanceId);
+    }
+
+
+    public TaskExportJobResponse submit(TaskExportFormat format, TaskSearchCriteria criteria) {
+        String jobId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        TaskExportJob job = taskExportJobRepository.save(TaskExportJob.builder()
+                .jobId(jobId)
+                .ownerInstance(instanceId)
+                .requestedByUserId(currentUserId())
+                .status(TaskExportJob.Status.QUEUED)
+                .format(format)
+                .taskStatus(criteria.status())
+                .taskPriority(criteria.priority())
+                .projectId(criteria.projectId())
+                .assignedToUserId(criteria.assignedToUserId())
+                .fileName(jobId + "." + format.getExtension())
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build());
+
+        try {
+            taskExportExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            job.setStatus(TaskExportJob.Status.FAILED);
+            job.setError("rejected, too many exports are queued");
+            job.setFinishedAt(LocalDateTime.now());
+            taskExportJobRepository.save(job);
+            throw new HiveException("😴 Too many exports are queued, try again later 😴", SERVICE_UNAVAILABLE, SERVICE_UNAVAILABLE.value());
+        }
+        return toResponse(job);
+    }
+
+
+    public TaskExportJobResponse getJob(String jobId) {
+        return toResponse(findOwnJob(jobId));
+    }
+
+
+    /**
+     * Returns the job whose file can be downloaded. The file is only checked on the owner instance of the job, the other
+     * instances forward the download there.
+     *
+     * @throws ResourceNotFoundException if the job was not found, or its file is not on this instance anymore
+     * @throws HiveException             if the job was requested by another user or has not finished successfully
+     */
+    public TaskExportJob getFinishedJob(String jobId) {
+        TaskExportJob job = findOwnJob(jobId);
+        if (job.getStatus() != TaskExportJob.Status.DONE)
+            throw new HiveException("⏳ Export {" + jobId + "} is " + job.getStatus() + " ⏳", CONFLICT, CONFLICT.value());
+        if (isLocal(job) && !Files.isRegularFile(resolve(job)))
+            throw new ResourceNotFoundException("😖 The file of export {" + jobId + "} was not found 😖", NOT_FOUND, NOT_FOUND.value());
+        return job;
+    }
+
+
+    public Path resolve(TaskExportJob job) {
+        return directory.resolve(job.getFileName());
+    }
+
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+
+    /**
+     * Whether the file of the job is written on this instance.
+     */
+    public boolean isLocal(TaskExportJob job) {
+        return instanceId.equals(job.getOwnerInstance());
+    }
+
+
+    /**
+     * Deletes the file of the job and the job itself; the job must be owned by this instance.
+     */
+    public void expire(TaskExportJob job) {
+        try {
+            Files.deleteIfExists(resolve(job));
+            Files.deleteIfExists(partFile(job));
+        } catch (IOException e) {
+            log.warn("⚠️ could not delete the file of export {{}}: {} ⚠️", job.getJobId(), e.getMessage());
+        }
+        taskExportJobRepository.delete(job);
+    }
+
+
+    private void run(String jobId) {
+        TaskExportJob job = taskExportJobRepository.findById(jobId).orElse(null);
+        if (job == null)
+            return;
+
+        job.setStatus(TaskExportJob.Status.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        job = taskExportJobRepository.save(job);
+
+        Path part = partFile(job);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (OutputStream outputStream = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(part)), digest)) {
+                taskExportService.export(job.getFormat(), criteriaOf(job), outputStream);
+            }
+            Path file = Files.move(part, resolve(job), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            job.setSizeBytes(Files.size(file));
+            job.setSha256(HexFormat.of().formatHex(digest.digest()));
+            job.setStatus(TaskExportJob.Status.DONE);
+            log.info("✅ export {{}} finished: {} bytes ✅", jobId, job.getSizeBytes());
+        } catch (Exception e) {
+            log.error("❌ export {{}} failed: {} ❌", jobId, e.getMessage());
+            deleteQuietly(part);
+            job.setStatus(TaskExportJob.Status.FAILED);
+            job.setError(truncate(e.getMessage()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        job.setFinishedAt(now);
+        job.setExpiresAt(now.plus(ttl));
+        taskExportJobRepository.save(job);
+    }
+
+
+    private TaskExportJob findOwnJob(String jobId) {
+        TaskExportJob job = taskExportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "😖 huh... it seems the export with ID {" + jobId + "} wasn't found in the db 😖",
+                        NOT_FOUND,
+                        NOT_FOUND.value()
+                ));
+        if (!Objects.equals(job.getRequestedByUserId(), currentUserId()))
+            throw new HiveException("Not authorized to access export {" + jobId + "}", FORBIDDEN, FORBIDDEN.value());
+        return job;
+    }
+
+
+    private Long currentUserId() {
+        return authUserFeignClient.getCurrentUsers_Id(httpServletRequest.getHeader(AUTHORIZATION));
+    }
+
+
+    private Path partFile(TaskExportJob job) {
+        return directory.resolve(job.getFileName() + ".part");
+    }
+
+
+    private static TaskSearchCriteria criteriaOf(TaskExportJob job) {
+        return new TaskSearchCriteria(job.getTaskStatus(), job.getTaskPriority(), job.getProjectId(), job.getAssignedToUserId());
+    }
+
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // removed with the job when it expires
+        }
+    }
+
+
+    private static String truncate(String message) {
+        if (message == null)
+            return null;
+        return message.length() > 1_000 ? message.substring(0, 1_000) : message;
+    }
+
+
+    private static TaskExportJobResponse toResponse(TaskExportJob job) {
+        return TaskExportJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .format(job.getFormat())
+                .ownerInstance(job.getOwnerInstance())
+                .sizeBytes(job.getSizeBytes())
+                .sha256(job.getSha256())
+                .downloadUrl(job.getStatus() == TaskExportJob.Status.DONE
+                        ? "/api/v1/task/management/export-jobs/" + job.getJobId() + "/download"
+                        : null)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .expiresAt(job.getExpiresAt())
+                .error(job.getError())
+                .build();
+    }
+
+}
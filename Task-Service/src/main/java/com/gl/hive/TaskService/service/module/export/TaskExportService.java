@@ -0,0 +1,65 @@
+package com.gl.hive.TaskService.service.module.export;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.TaskService.repository.TaskRepository;
+import com.gl.hive.TaskService.repository.search.TaskSearchCriteria;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Exports the tasks matching the search criteria straight into the response.
+ * <p>
+ * The tasks are read from a forward-only cursor inside a read-only transaction that lives as long as the response
+ * is being written, and each task is handed to the {@link TaskExportWriter} of the requested format as soon as it is read.
+ */
+@Slf4j
+@Service
+public class TaskExportService {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<TaskExportFormat, TaskExportWriter> writers = new EnumMap<>(TaskExportFormat.class);
+
+    public TaskExportService(TaskRepository taskRepository,
+                             PlatformTransactionManager transactionManager,
+                             List<TaskExportWriter> writers) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        writers.forEach(writer -> this.writers.put(writer.format(), writer));
+    }
+
+
+    public StreamingResponseBody exportTasks(TaskExportFormat format, TaskSearchCriteria criteria) {
+        return outputStream -> export(format, criteria, outputStream);
+    }
+
+
+    /**
+     * Writes the tasks matching the criteria to the output in the given format; the output is flushed, but not closed.
+     */
+    public void export(TaskExportFormat format, TaskSearchCriteria criteria, OutputStream outputStream) {
+        TaskExportWriter writer = writers.get(format);
+        long start = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Task> tasks = taskRepository.stream(criteria)) {
+                writer.write(tasks, outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("📤 tasks exported as {} in {} ms 📤", format, (System.nanoTime() - start) / 1_000_000);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.gl.hive.TaskService.service.module.export;
+
+import com.gl.hive.TaskService.model.entity.Task;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Writes the exported tasks in one of the {@link TaskExportFormat}s.
+ * <p>
+ * The tasks are written one by one as they come from the stream, nothing is collected,
+ * so the memory used by an export does not depend on the number of tasks.
+ */
+public interface TaskExportWriter {
+
+    TaskExportFormat format();
+
+    /**
+     * Writes all the tasks to the output. The output is flushed, but not closed.
+     */
+    void write(Stream<Task> tasks, OutputStream outputStream) throws IOException;
+
+}
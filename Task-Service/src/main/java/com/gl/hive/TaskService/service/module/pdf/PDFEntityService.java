@@ -1,54 +1,61 @@
 package com.gl.hive.TaskService.service.module.pdf;
 
 import com.gl.hive.TaskService.model.entity.Task;
-import com.gl.hive.TaskService.repository.TaskRepository;
+import com.gl.hive.TaskService.service.module.export.TaskExportFormat;
+import com.gl.hive.TaskService.service.module.export.TaskExportWriter;
 import com.lowagie.text.Document;
 import com.lowagie.text.FontFactory;
 import com.lowagie.text.PageSize;
 import com.lowagie.text.Paragraph;
 import com.lowagie.text.pdf.PdfWriter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.util.List;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
+/**
+ * Exports the tasks as a PDF document. The pages are written to the output as soon as they are full,
+ * so only the page being laid out is kept in memory.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class PDFEntityService {
+public class PDFEntityService implements TaskExportWriter {
 
-    private final TaskRepository taskRepository;
+    @Override
+    public TaskExportFormat format() {
+        return TaskExportFormat.PDF;
+    }
 
-    public ByteArrayInputStream createTaskPDF() {
-        List<Task> taskList = taskRepository.findAll();
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(Stream<Task> tasks, OutputStream outputStream) {
         Document document = new Document(PageSize.A5, 36, 36, 65, 36);
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         PdfWriter pdfWriter = PdfWriter.getInstance(document, outputStream);
+        pdfWriter.setCloseStream(false);
         pdfWriter.setPageEvent(new EntityHeaderAndFooterEventHelper());
         document.open();
 
         Paragraph paragraph1 = new Paragraph("Tasks");
         document.add(paragraph1);
 
-        taskList.forEach(task -> {
-            int counter = 0;
+        long counter = 0;
+        Iterator<Task> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            Task task = iterator.next();
             Paragraph paragraph2 = new Paragraph("", FontFactory.getFont(FontFactory.COURIER, 8));
-            paragraph2.add("Task Name: ");
-            paragraph2.add(String.valueOf(counter));
+            paragraph2.add(String.valueOf(++counter));
+            paragraph2.add(". Task Name: ");
             paragraph2.add(task.getTaskName());
 
             document.add(paragraph2);
-            ++counter;
-        });
+        }
 
         document.close();
-        pdfWriter.close();
-
-        return new ByteArrayInputStream(outputStream.toByteArray());
     }
 
 }
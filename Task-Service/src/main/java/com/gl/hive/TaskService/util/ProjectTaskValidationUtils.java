@@ -1,10 +1,12 @@
 package com.gl.hive.TaskService.util;
 
 import com.gl.hive.TaskService.fegin.client.AuthUserFeignClient;
-import com.gl.hive.TaskService.fegin.client.ProjectUtilFeignClient;
 import com.gl.hive.TaskService.model.entity.Task;
 import com.gl.hive.shared.lib.exceptions.HiveException;
+import com.gl.hive.shared.lib.cache.ProjectAccessCache;
 import com.gl.hive.shared.lib.exceptions.NotLeaderOfProjectException;
+import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import com.gl.hive.shared.lib.model.dto.ProjectAccessDTO;
 import com.gl.hive.shared.lib.model.dto.ProjectDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Service;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 @Slf4j
 @Service
@@ -21,13 +24,32 @@ import static org.springframework.http.HttpStatus.FORBIDDEN;
 public class ProjectTaskValidationUtils {
 
     private final AuthUserFeignClient authUserFeignClient;
-    private final ProjectUtilFeignClient projectUtilFeignClient;
+    private final ProjectAccessCache projectAccessCache;
     private final HttpServletRequest httpServletRequest;
 
+    /**
+     * Returns the (cached) authorization decision of the user on the project.
+     *
+     * @throws ResourceNotFoundException if the project is not found
+     */
+    public ProjectAccessDTO getProjectAccess(long projectId, long userId) {
+        ProjectAccessDTO access = projectAccessCache.get(projectId, userId);
+        if (!access.isProjectExists()) {
+            log.error("😖 huh... it seems the project with {{}} wasn't found in the db 😖", projectId);
+            throw new ResourceNotFoundException(
+                    "😖 huh... it seems the project with {{" + projectId + "}} wasn't found in the db 😖",
+                    NOT_FOUND,
+                    NOT_FOUND.value()
+            );
+        }
+        return access;
+    }
+
+
     public void handle_UserLeadership(ProjectDTO projectDTO) {
         String requestHeader = httpServletRequest.getHeader(AUTHORIZATION);
         long currentUsersDTO_Id = authUserFeignClient.getCurrentUsers_Id(requestHeader);
-        if (!projectUtilFeignClient.isLeaderOrAdminOfProject(projectDTO.getProjectId(), currentUsersDTO_Id))
+        if (!getProjectAccess(projectDTO.getProjectId(), currentUsersDTO_Id).isLeaderOrAdmin())
             throw new NotLeaderOfProjectException("👮🏻You are not a leader or admin of THIS project👮🏻", FORBIDDEN, FORBIDDEN.value());
     }
 
@@ -3,19 +3,20 @@ package com.gl.hive.TaskService.util;
 import com.gl.hive.TaskService.fegin.client.AuthUserFeignClient;
 import com.gl.hive.TaskService.fegin.client.ProjectUtilFeignClient;
 import com.gl.hive.TaskService.model.entity.Task;
-import com.gl.hive.TaskService.model.entity.TaskUser;
 import com.gl.hive.TaskService.model.response.TaskResponse;
-import com.gl.hive.TaskService.repository.TaskRepository;
 import com.gl.hive.TaskService.repository.TaskUserRepository;
+import com.gl.hive.shared.lib.exceptions.HiveException;
 import com.gl.hive.shared.lib.model.dto.ProjectDTO;
 import com.gl.hive.shared.lib.model.dto.UserDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
 
 /**
  * Another utility class that provides helper methods for TaskAssigment to users.
@@ -25,13 +26,17 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TaskAssignmentUtils {
 
-    private final TaskRepository taskRepository;
     private final AuthUserFeignClient authFeignClient;
     private final ProjectUtilFeignClient projectFeignClient;
     private final TaskUserRepository taskUserRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
-     * Loops through the list of user IDs and assigns the task to each user.
+     * Assigns the task to the users of the list that are members of the project and not assigned yet.
+     * <p>
+     * The users to assign are computed as a set difference: the requested users, minus the ones already assigned,
+     * intersected with the members of the project. That takes one query, one bulk membership check and one bulk user
+     * lookup, whatever the number of users, and the new assignments are written with one batched insert.
      *
      * @param task       the task to assign
      * @param projectId  the ID of the project the task belongs to
@@ -43,54 +48,80 @@ public class TaskAssignmentUtils {
             List<Long> userIdList,
             Map<String, String> statusResponseMap
     ) {
-        String notMemberMessage;
-        String alreadyAssignedMessage;
-        String successMessage;
-        String userNotFoundMessage;
-
-        for (Long userId : userIdList) {
-            UserDTO userDTO;
-            try {
-
-                // 1. Find the user by ID or throw a RecourseNotFoundException
-                userDTO = authFeignClient.getUserDTOById(userId);
-
-                // 2. Check if the user is a member of the project, and add a response to the map
-                boolean isMemberOfProject = projectFeignClient.isMemberOfProject(projectId, userDTO.getUserId());
-                if (!isMemberOfProject) {
-                    notMemberMessage = "❌😠😠 Fail: User with ID '" + userId + "' is NOT a member of THIS project with ID '" + projectId + "' 😠😠❌";
-                    statusResponseMap.put(userDTO.getUsername(), notMemberMessage);
-                    continue;
-                }
-
-                // 3. Check if the task is already assigned to the user; skip ahead and add a response to the map
-                Optional<Task> isTaskAlreadyAssigned = taskRepository.findByAssignedUsers_UserIdAndTaskId(userDTO.getUserId(), task.getTaskId());
-                if (isTaskAlreadyAssigned.isPresent()) {
-                    alreadyAssignedMessage = "❌😖 Fail: Task is already assigned to user '" + userDTO.getUsername() + "' 😖❌";
-                    statusResponseMap.put(userDTO.getUsername(), alreadyAssignedMessage);
-                    continue;
-                }
-
-                // 4. Assign the user to the task, build a task_user object for managing relationship and add a response to the map
-                TaskUser newTaskUser = TaskUser.builder()
-                        .userId(userDTO.getUserId())
-                        .task(task)
-                        .build();
-                task.getAssignedUsers().add(newTaskUser);
-                taskUserRepository.save(newTaskUser);
-
-                successMessage = "✅ Success: Task assigned to user '" + userDTO.getUsername() + "' ✅";
-                statusResponseMap.put(userDTO.getUsername(), successMessage);
-
-                // Set the assigned users for the task and save the task
-                task.setAssignedUsers(task.getAssignedUsers());
-                taskRepository.save(task);
-
-            } catch (Exception e) {
-                userNotFoundMessage = "❌😶😐🙄 User with ID '" + userId + "' was not Found 🙄😐😶❌";
-                statusResponseMap.put(userId.toString(), userNotFoundMessage);
+        Set<Long> requested = new LinkedHashSet<>(userIdList);
+        requested.remove(null);
+        if (requested.isEmpty())
+            return;
+
+        // 1. Resolve the users, the members among them and the ones already assigned, with one call or query each
+        Map<Long, UserDTO> users = new HashMap<>();
+        authFeignClient.getUserDTOsByIds(requested).forEach(userDTO -> users.put(userDTO.getUserId(), userDTO));
+        Set<Long> members = users.isEmpty()
+                ? Set.of()
+                : new HashSet<>(projectFeignClient.filterMembersOfProject(projectId, users.keySet()));
+        Set<Long> alreadyAssigned = members.isEmpty()
+                ? Set.of()
+                : new HashSet<>(taskUserRepository.findUserIdsByTaskIdAndUserIdIn(task.getTaskId(), members));
+
+        // 2. Report each of the users and keep the ones to assign
+        List<Long> toAssign = new ArrayList<>();
+        for (Long userId : requested) {
+            UserDTO userDTO = users.get(userId);
+            if (userDTO == null)
+                statusResponseMap.put(userId.toString(), "❌😶😐🙄 User with ID '" + userId + "' was not Found 🙄😐😶❌");
+            else if (!members.contains(userId))
+                statusResponseMap.put(userDTO.getUsername(), "❌😠😠 Fail: User with ID '" + userId + "' is NOT a member of THIS project with ID '" + projectId + "' 😠😠❌");
+            else if (alreadyAssigned.contains(userId))
+                statusResponseMap.put(userDTO.getUsername(), "❌😖 Fail: Task is already assigned to user '" + userDTO.getUsername() + "' 😖❌");
+            else {
+                toAssign.add(userId);
+                statusResponseMap.put(userDTO.getUsername(), "✅ Success: Task assigned to user '" + userDTO.getUsername() + "' ✅");
             }
         }
+
+        // 3. Write all the new assignments at once
+        insertAssignments(task.getTaskId(), toAssign);
+    }
+
+
+    /**
+     * Assigns the task to all the given members of its project that are not assigned yet, with one query and one batched insert.
+     *
+     * @param task    the task to assign
+     * @param members the members of the project of the task
+     */
+    public void assignTaskToMembers(Task task, List<UserDTO> members, Map<String, String> responseMap) {
+        Set<Long> alreadyAssigned = new HashSet<>(taskUserRepository.findUserIdsByTaskId(task.getTaskId()));
+
+        Set<Long> toAssign = new LinkedHashSet<>();
+        for (UserDTO memberDTO : members) {
+            if (alreadyAssigned.contains(memberDTO.getUserId()))
+                responseMap.put(memberDTO.getUsername(), "❌😖 Fail: Task is already assigned to user '" + memberDTO.getActualUsername() + "' 😖❌");
+            else if (toAssign.add(memberDTO.getUserId())) {
+                responseMap.put(memberDTO.getUsername(), "✅ Success: Task assigned to user '" + memberDTO.getActualUsername() + "' ✅");
+            }
+        }
+
+        insertAssignments(task.getTaskId(), toAssign);
+    }
+
+
+    /**
+     * An assignment added concurrently since the diff was computed is a no-op update of the duplicate key, while any
+     * other failure, such as the task being deleted meanwhile, fails the batch instead of being reported as a success.
+     */
+    private void insertAssignments(long taskId, Collection<Long> userIds) {
+        if (userIds.isEmpty())
+            return;
+        List<Object[]> rows = userIds.stream()
+                .map(userId -> new Object[]{taskId, userId})
+                .toList();
+        try {
+            jdbcTemplate.batchUpdate("INSERT INTO tasks_users (task_id, user_id) VALUES (?, ?) ON DUPLICATE KEY UPDATE user_id = user_id", rows);
+        } catch (DataIntegrityViolationException e) {
+            log.error("❌ assignments of task {{}} failed: {} ❌", taskId, e.getMessage());
+            throw new HiveException("😖 The task with ID {" + taskId + "} was modified concurrently, try again 😖", CONFLICT, CONFLICT.value());
+        }
     }
 
 
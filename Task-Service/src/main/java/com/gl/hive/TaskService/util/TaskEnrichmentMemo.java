@@ -0,0 +1,24 @@
+package com.gl.hive.TaskService.util;
+
+import com.gl.hive.shared.lib.model.dto.ProjectDTO;
+import com.gl.hive.shared.lib.model.dto.UserDTO;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The projects and users already resolved while serving the current request, so building the task responses
+ * more than once in a request does not fetch them again.
+ */
+@Getter
+@Component
+@RequestScope
+public class TaskEnrichmentMemo {
+
+    private final Map<Long, ProjectDTO> projects = new ConcurrentHashMap<>();
+    private final Map<Long, UserDTO> users = new ConcurrentHashMap<>();
+
+}
@@ -0,0 +1,121 @@
+package com.gl.hive.TaskService.util;
+
+import com.gl.hive.TaskService.fegin.client.ProjectUtilFeignClient;
+import com.gl.hive.TaskService.model.entity.listener.TaskProgressSnapshot;
+import com.gl.hive.shared.lib.model.dto.TaskEventDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sends the task lifecycle events to the PROJECT-SERVICE once the change is committed.
+ * <p>
+ * The events of one transaction are merged per project, so a bulk change sends one event per project instead of one
+ * per task. The events are best-effort: a lost event is corrected by the periodic reconciliation of the PROJECT-SERVICE.
+ */
+@Slf4j
+@Service
+public class TaskEventPublisher {
+
+    /* the key of the events pending in the current transaction */
+    private static final Object PENDING_EVENTS = new Object();
+
+    private final ProjectUtilFeignClient projectUtilFeignClient;
+
+    // lazy because the feign clients are created after the EntityManagerFactory that needs this bean for the entity listener
+    public TaskEventPublisher(@Lazy ProjectUtilFeignClient projectUtilFeignClient) {
+        this.projectUtilFeignClient = projectUtilFeignClient;
+    }
+
+    /**
+     * Publishes the change of the task from its previous state to its current state, if it changes any counter.
+     *
+     * @param previous the state before the change, or {@code null} if the task was created
+     * @param current  the state after the change, or {@code null} if the task was deleted
+     */
+    public void publish(TaskEventDTO.Type type, Long taskId, TaskProgressSnapshot previous, TaskProgressSnapshot current) {
+        TaskProgressSnapshot any = current != null ? current : previous;
+        if (previous != null && current != null && previous.projectId() != current.projectId()) {
+            // the task moved to another project; count it out of the old one and into the new one
+            publish(TaskEventDTO.Type.DELETED, taskId, previous, null);
+            publish(TaskEventDTO.Type.CREATED, taskId, null, current);
+            return;
+        }
+
+        TaskEventDTO event = TaskEventDTO.builder()
+                .type(type)
+                .taskId(taskId != null ? taskId : 0L)
+                .projectId(any.projectId())
+                .totalDelta(count(current, current != null && current.counted()) - count(previous, previous != null && previous.counted()))
+                .completedDelta(count(current, current != null && current.completed()) - count(previous, previous != null && previous.completed()))
+                .overdueDelta(count(current, current != null && current.overdue()) - count(previous, previous != null && previous.overdue()))
+                .build();
+        if (event.getTotalDelta() == 0 && event.getCompletedDelta() == 0 && event.getOverdueDelta() == 0)
+            return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(event);
+            return;
+        }
+        pendingEvents().merge(event.getProjectId(), event, TaskEventPublisher::merge);
+    }
+
+
+    private void send(TaskEventDTO event) {
+        try {
+            projectUtilFeignClient.publishTaskEvent(event);
+        } catch (Exception e) {
+            log.warn("⚠️ could not send the {} event of task {{}} to the PROJECT-SERVICE: {} ⚠️", event.getType(), event.getTaskId(), e.getMessage());
+        }
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, TaskEventDTO> pendingEvents() {
+        Map<Long, TaskEventDTO> pending = (Map<Long, TaskEventDTO>) TransactionSynchronizationManager.getResource(PENDING_EVENTS);
+        if (pending != null)
+            return pending;
+
+        Map<Long, TaskEventDTO> events = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_EVENTS, events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.values().stream()
+                        .filter(event -> event.getTotalDelta() != 0 || event.getCompletedDelta() != 0 || event.getOverdueDelta() != 0)
+                        .forEach(TaskEventPublisher.this::send);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_EVENTS);
+            }
+        });
+        return events;
+    }
+
+
+    /* the merged event of many tasks carries no task id */
+    private static TaskEventDTO merge(TaskEventDTO first, TaskEventDTO second) {
+        return TaskEventDTO.builder()
+                .type(first.getType() == second.getType() ? first.getType() : TaskEventDTO.Type.UPDATED)
+                .taskId(first.getTaskId() == second.getTaskId() ? first.getTaskId() : 0L)
+                .projectId(first.getProjectId())
+                .totalDelta(first.getTotalDelta() + second.getTotalDelta())
+                .completedDelta(first.getCompletedDelta() + second.getCompletedDelta())
+                .overdueDelta(first.getOverdueDelta() + second.getOverdueDelta())
+                .build();
+    }
+
+
+    private static int count(TaskProgressSnapshot snapshot, boolean flag) {
+        return snapshot != null && flag ? 1 : 0;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.gl.hive.TaskService.util;
+
+import com.gl.hive.TaskService.model.entity.TaskExportJob;
+import com.gl.hive.TaskService.repository.TaskExportJobRepository;
+import com.gl.hive.TaskService.service.module.export.TaskExportJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Removes the export jobs of this instance whose time to live has passed, together with their files.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskExportJobCleaner {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final TaskExportJobRepository taskExportJobRepository;
+    private final TaskExportJobService taskExportJobService;
+
+
+    @Scheduled(
+            initialDelayString = "${task.export.cleanup-interval:PT10M}",
+            fixedDelayString = "${task.export.cleanup-interval:PT10M}"
+    )
+    public void expireJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        List<TaskExportJob> jobs;
+        do {
+            jobs = taskExportJobRepository.findByOwnerInstanceAndExpiresAtBeforeOrderByExpiresAt(
+                    taskExportJobService.getInstanceId(), now, PageRequest.of(0, BATCH_SIZE));
+            jobs.forEach(taskExportJobService::expire);
+            expired += jobs.size();
+        } while (jobs.size() == BATCH_SIZE);
+
+        if (expired > 0)
+            log.info("🧹 {} expired task exports removed 🧹", expired);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.gl.hive.TaskService.util;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Moves the {@code task_seq} table ahead of the ids already in the {@code task} table.
+ * <p>
+ * The tasks used to take their ids from the AUTO_INCREMENT column; the pooled sequence that replaced it starts at 1
+ * when Hibernate creates it, and hands out the block of {@link Task#ID_ALLOCATION_SIZE} ids that ends at the value
+ * it reads, so the value must be at least one block above the highest existing id. This runs before the web server
+ * accepts requests, and does nothing once the sequence is ahead.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory") // Hibernate creates task_seq
+public class TaskIdSequenceAligner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignTaskSequence() {
+        int updated = jdbcTemplate.update("""
+                UPDATE task_seq s
+                JOIN (SELECT COALESCE(MAX(task_id), 0) AS max_id FROM task) t
+                SET s.next_val = t.max_id + ? + 1
+                WHERE s.next_val <= t.max_id + ?
+                """, Task.ID_ALLOCATION_SIZE, Task.ID_ALLOCATION_SIZE);
+        if (updated > 0)
+            log.info("🔢 task_seq moved ahead of the existing task ids 🔢");
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.gl.hive.TaskService.util;
+
+import com.gl.hive.TaskService.fegin.client.AuthUserFeignClient;
+import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.TaskService.model.response.TaskResponse;
+import com.gl.hive.TaskService.repository.TaskUserRepository;
+import com.gl.hive.shared.lib.cache.ProjectDTOCache;
+import com.gl.hive.shared.lib.model.dto.ProjectDTO;
+import com.gl.hive.shared.lib.model.dto.UserDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builds the {@link TaskResponse}s of a list of tasks with a constant number of remote calls.
+ * <p>
+ * The distinct projects and assigned users of all the tasks are collected first, the ones not already resolved in
+ * the current request are fetched with one bulk call each, both calls running concurrently, and the responses are
+ * then built from the resolved maps.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskResponseAssembler {
+
+    private final TaskUserRepository taskUserRepository;
+    private final AuthUserFeignClient authUserFeignClient;
+    private final ProjectDTOCache projectDTOCache;
+    private final ObjectProvider<TaskEnrichmentMemo> taskEnrichmentMemo;
+    private final ThreadPoolTaskExecutor taskEnrichmentExecutor;
+
+    public List<TaskResponse> assemble(Collection<Task> tasks) {
+        if (tasks.isEmpty())
+            return new ArrayList<>();
+
+        // 1. Collect the assignments of all the tasks in one query and the distinct ids to resolve
+        Map<Long, List<Long>> assigneesByTaskId = new HashMap<>();
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> projectIds = new HashSet<>();
+        for (Task task : tasks) {
+            taskIds.add(task.getTaskId());
+            if (task.getProjectId() != null)
+                projectIds.add(task.getProjectId());
+        }
+        Set<Long> userIds = new HashSet<>();
+        for (Object[] row : taskUserRepository.findAssignmentRowsByTaskIdIn(taskIds)) {
+            assigneesByTaskId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[2]);
+            userIds.add((Long) row[2]);
+        }
+
+        // 2. Resolve what the current request has not resolved yet, with both bulk calls in flight at once
+        TaskEnrichmentMemo memo = RequestContextHolder.getRequestAttributes() != null
+                ? taskEnrichmentMemo.getObject()
+                : new TaskEnrichmentMemo();
+        Map<Long, ProjectDTO> projects = memo.getProjects();
+        Map<Long, UserDTO> users = memo.getUsers();
+
+        List<Long> missingProjectIds = projectIds.stream().filter(id -> !projects.containsKey(id)).toList();
+        List<Long> missingUserIds = userIds.stream().filter(id -> !users.containsKey(id)).toList();
+
+        CompletableFuture<Map<Long, ProjectDTO>> projectsFuture = missingProjectIds.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : CompletableFuture.supplyAsync(() -> projectDTOCache.getAll(missingProjectIds), taskEnrichmentExecutor);
+        CompletableFuture<List<UserDTO>> usersFuture = missingUserIds.isEmpty()
+                ? CompletableFuture.completedFuture(List.of())
+                : CompletableFuture.supplyAsync(() -> authUserFeignClient.getUserDTOsByIds(missingUserIds), taskEnrichmentExecutor);
+
+        try {
+            projects.putAll(projectsFuture.join());
+        } catch (Exception e) {
+            log.warn("⚠️ could not resolve {} projects of the task responses: {} ⚠️", missingProjectIds.size(), e.getMessage());
+        }
+        try {
+            usersFuture.join().forEach(user -> users.put(user.getUserId(), user));
+        } catch (Exception e) {
+            log.warn("⚠️ could not resolve {} assigned users of the task responses: {} ⚠️", missingUserIds.size(), e.getMessage());
+        }
+
+        // 3. Build the responses from the resolved maps
+        return tasks.stream()
+                .map(task -> build(task, projects.get(task.getProjectId()), assigneesByTaskId.getOrDefault(task.getTaskId(), List.of()), users))
+                .toList();
+    }
+
+
+    private static TaskResponse build(Task task, ProjectDTO project, List<Long> assigneeIds, Map<Long, UserDTO> users) {
+        Map<String, String> assignedUsers = new HashMap<>();
+        for (Long userId : assigneeIds) {
+            UserDTO user = users.get(userId);
+            if (user != null)
+                assignedUsers.put(user.getUserId().toString(), user.getUsername());
+        }
+
+        return TaskResponse.builder()
+                .taskId(task.getTaskId())
+                .taskName(task.getTaskName())
+                .projectName(project != null ? project.getProjectName() : "N/A") // Use "N/A" if project is null
+                .taskStatus(task.getTaskStatus())
+                .taskPriority(String.valueOf(task.getTaskPriority()))
+                .description(task.getDescription())
+                .dueDate(task.getDueDate())
+                .assignedUsers(assignedUsers)
+                .build();
+    }
+
+}
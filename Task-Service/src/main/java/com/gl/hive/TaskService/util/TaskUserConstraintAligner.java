@@ -0,0 +1,52 @@
+package com.gl.hive.TaskService.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Drops the unique index on {@code tasks_users.task_id} alone, which the {@code (task_id, user_id)} unique constraint replaced.
+ * <p>
+ * The old index allowed a task to be assigned to a single user only, and Hibernate's schema update never drops an index,
+ * so it is removed here once the new constraint exists. This runs before the web server accepts requests, and does
+ * nothing on a schema that is already aligned, including one aligned meanwhile by another instance starting with it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory") // Hibernate creates uk_tasks_users_task_user
+public class TaskUserConstraintAligner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void dropTaskIdUniqueIndex() {
+        for (String indexName : findTaskIdUniqueIndexes()) {
+            try {
+                jdbcTemplate.execute("ALTER TABLE tasks_users DROP INDEX `" + indexName + "`");
+                log.info("🔑 unique index {} on tasks_users.task_id dropped 🔑", indexName);
+            } catch (DataAccessException e) {
+                if (findTaskIdUniqueIndexes().contains(indexName))
+                    throw e;
+                log.info("🔑 unique index {} on tasks_users.task_id already dropped by another instance 🔑", indexName);
+            }
+        }
+    }
+
+
+    private List<String> findTaskIdUniqueIndexes() {
+        return jdbcTemplate.queryForList("""
+                SELECT index_name FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'tasks_users' AND non_unique = 0 AND index_name <> 'PRIMARY'
+                GROUP BY index_name
+                HAVING COUNT(*) = 1 AND MAX(column_name) = 'task_id'
+                """, String.class);
+    }
+
+}
@@ -1,7 +1,5 @@
 package com.gl.hive.TaskService.util;
 
-import com.gl.hive.TaskService.fegin.client.AuthUserFeignClient;
-import com.gl.hive.TaskService.fegin.client.ProjectUtilFeignClient;
 import com.gl.hive.TaskService.model.entity.Task;
 import com.gl.hive.TaskService.model.request.TaskRequest;
 import com.gl.hive.TaskService.model.response.TaskResponse;
@@ -9,16 +7,14 @@ import com.gl.hive.TaskService.repository.TaskRepository;
 import com.gl.hive.shared.lib.exceptions.HiveException;
 import com.gl.hive.shared.lib.exceptions.NotLeaderOfProjectException;
 import com.gl.hive.shared.lib.exceptions.NotMemberOfProjectException;
-import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
-import com.gl.hive.shared.lib.model.dto.ProjectDTO;
-import com.gl.hive.shared.lib.model.dto.UserDTO;
+import com.gl.hive.shared.lib.model.dto.ProjectAccessDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static org.springframework.http.HttpStatus.EXPECTATION_FAILED;
@@ -32,8 +28,8 @@ import static org.springframework.http.HttpStatus.FORBIDDEN;
 public class TaskUtils {
 
     private final TaskRepository taskRepository;
-    private final AuthUserFeignClient authFeignClient;
-    private final ProjectUtilFeignClient projectFeignClient;
+    private final ProjectTaskValidationUtils projectTaskValidationUtils;
+    private final TaskResponseAssembler taskResponseAssembler;
     private static final Logger log = LoggerFactory.getLogger(TaskUtils.class);
 
     /**
@@ -69,8 +65,8 @@ public class TaskUtils {
             );
 
         // 2. Check if the user is a member of the project or else throw a NotMemberOfProjectException
-        long userDTO_Id = authFeignClient.getUserDTOById(userId).getUserId();
-        if (!projectFeignClient.isMemberOfProject(projectId, userDTO_Id))
+        ProjectAccessDTO access = projectTaskValidationUtils.getProjectAccess(projectId, userId);
+        if (!access.isMember())
             throw new NotMemberOfProjectException(
                     "Ⓜ️👥 You are not a member of THIS project 👥Ⓜ️",
                     FORBIDDEN,
@@ -78,7 +74,7 @@ public class TaskUtils {
             );
 
         // 3. Check if the user is the leader or admin of the project or else throw a NotLeaderOfProjectException
-        if (!projectFeignClient.isLeaderOrAdminOfProject(projectId, userId))
+        if (!access.isLeaderOrAdmin())
             throw new NotLeaderOfProjectException(
                     "👮🏻You are not the leader or admin of THIS project👮🏻",
                     FORBIDDEN,
@@ -87,6 +83,17 @@ public class TaskUtils {
     }
 
 
+    /**
+     * Builds the TaskResponse objects of many tasks; see {@link TaskResponseAssembler}.
+     *
+     * @param tasks the tasks
+     * @return the TaskResponse objects in the order of the tasks
+     */
+    public List<TaskResponse> buildTaskResponses(Collection<Task> tasks) {
+        return taskResponseAssembler.assemble(tasks);
+    }
+
+
     /**
      * Builds a TaskResponse object.
      *
@@ -94,44 +101,7 @@ public class TaskUtils {
      * @return a TaskResponse object with information about the newly created task and updated task.
      */
     public TaskResponse buildTaskResponse(Task task) {
-        ProjectDTO project = null;
-        try {
-            project = projectFeignClient.getProjectAsDTO(task.getProjectId());
-        } catch (Exception e) {
-            log.error("Error fetching project details for task " + task.getTaskId(), e);
-            // Project details will be null
-        }
-
-        Map<String, String> assignededUsersMap = new HashMap<>();
-        if (task.getAssignedUsers() != null) {
-            task.getAssignedUsers().forEach(taskUser -> {
-                try {
-                    UserDTO assignedUser = authFeignClient.getUserDTOById(taskUser.getUserId());
-                    if (assignedUser != null) {
-                        assignededUsersMap.put(assignedUser.getUserId().toString(), assignedUser.getUsername());
-                    } else {
-                         log.warn("User with ID " + taskUser.getUserId() + " not found for task " + task.getTaskId());
-                    }
-                } catch (ResourceNotFoundException e) {
-                     log.warn("User with ID " + taskUser.getUserId() + " not found (ResourceNotFoundException) for task " + task.getTaskId());
-                     // User details for this specific user will be missing in the map
-                } catch (Exception e) {
-                    log.error("Error fetching user details for task " + task.getTaskId() + " and user " + taskUser.getUserId(), e);
-                    // User details for this specific user will be missing in the map
-                }
-            });
-        }
-
-        return TaskResponse.builder()
-                .taskId(task.getTaskId())
-                .taskName(task.getTaskName())
-                .projectName(project != null ? project.getProjectName() : "N/A") // Use "N/A" if project is null
-                .taskStatus(task.getTaskStatus())
-                .taskPriority(String.valueOf(task.getTaskPriority()))
-                .description(task.getDescription())
-                .dueDate(task.getDueDate())
-                .assignedUsers(assignededUsersMap)
-                .build();
+        return taskResponseAssembler.assemble(List.of(task)).get(0);
     }
 
 }
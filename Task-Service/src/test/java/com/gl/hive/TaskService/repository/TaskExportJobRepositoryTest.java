@@ -0,0 +1,80 @@
+package com.gl.hive.TaskService.repository;
+
+import com.gl.hive.TaskService.model.entity.TaskExportJob;
+import com.gl.hive.TaskService.service.module.export.TaskExportFormat;
+import com.gl.hive.TaskService.util.TaskEventPublisher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.gl.hive.TaskService.model.entity.TaskExportJob.Status.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class TaskExportJobRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Autowired
+    private TaskExportJobRepository taskExportJobRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @MockBean
+    private TaskEventPublisher taskEventPublisher;
+
+    @Test
+    void failsTheUnfinishedJobsOfTheInstanceOnly() {
+        String queued = saveJob("a", QUEUED, NOW.plusDays(1));
+        String running = saveJob("a", RUNNING, NOW.plusDays(1));
+        String done = saveJob("a", DONE, NOW.plusDays(1));
+        String otherInstance = saveJob("b", RUNNING, NOW.plusDays(1));
+
+        assertEquals(2, taskExportJobRepository.failAll("a", List.of(QUEUED, RUNNING), FAILED, "interrupted", NOW, NOW.plusDays(2)));
+        testEntityManager.clear();
+
+        assertEquals(FAILED, taskExportJobRepository.findById(queued).orElseThrow().getStatus());
+        assertEquals(FAILED, taskExportJobRepository.findById(running).orElseThrow().getStatus());
+        assertEquals(DONE, taskExportJobRepository.findById(done).orElseThrow().getStatus());
+        assertEquals(RUNNING, taskExportJobRepository.findById(otherInstance).orElseThrow().getStatus());
+    }
+
+    @Test
+    void findsOnlyTheExpiredJobsOfTheInstance() {
+        String expired = saveJob("a", DONE, NOW.minusHours(1));
+        saveJob("a", DONE, NOW.plusHours(1));
+        saveJob("b", DONE, NOW.minusHours(1));
+
+        assertEquals(
+                List.of(expired),
+                taskExportJobRepository.findByOwnerInstanceAndExpiresAtBeforeOrderByExpiresAt("a", NOW, PageRequest.of(0, 10))
+                        .stream().map(TaskExportJob::getJobId).toList()
+        );
+    }
+
+
+    private String saveJob(String ownerInstance, TaskExportJob.Status status, LocalDateTime expiresAt) {
+        String jobId = UUID.randomUUID().toString();
+        taskExportJobRepository.saveAndFlush(TaskExportJob.builder()
+                .jobId(jobId)
+                .ownerInstance(ownerInstance)
+                .status(status)
+                .format(TaskExportFormat.CSV)
+                .fileName(jobId + ".csv")
+                .createdAt(NOW)
+                .expiresAt(expiresAt)
+                .build());
+        return jobId;
+    }
+
+}
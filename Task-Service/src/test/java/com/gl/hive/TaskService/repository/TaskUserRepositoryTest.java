@@ -0,0 +1,92 @@
+package com.gl.hive.TaskService.repository;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.TaskService.model.entity.TaskUser;
+import com.gl.hive.TaskService.util.TaskEventPublisher;
+import com.gl.hive.shared.lib.model.enums.TaskPriority;
+import com.gl.hive.shared.lib.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class TaskUserRepositoryTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskUserRepository taskUserRepository;
+
+    @MockBean
+    private TaskEventPublisher taskEventPublisher;
+
+    private Task task;
+    private Task otherTask;
+
+    @BeforeEach
+    void setUp() {
+        task = saveTask();
+        otherTask = saveTask();
+        for (long userId = 1; userId <= 3; userId++)
+            assign(task, userId);
+        assign(otherTask, 1L);
+    }
+
+    @Test
+    void findsTheAssignedUsersAmongTheGivenOnes() {
+        assertEquals(Set.of(1L, 2L, 3L), Set.copyOf(taskUserRepository.findUserIdsByTaskId(task.getTaskId())));
+        assertEquals(Set.of(2L), Set.copyOf(taskUserRepository.findUserIdsByTaskIdAndUserIdIn(task.getTaskId(), List.of(2L, 4L))));
+    }
+
+    @Test
+    void unassignsTheGivenUsersOfTheTaskOnly() {
+        assertEquals(2, taskUserRepository.deleteByTaskIdAndUserIdIn(task.getTaskId(), List.of(1L, 3L, 4L)));
+
+        assertEquals(List.of(2L), taskUserRepository.findUserIdsByTaskId(task.getTaskId()));
+        assertEquals(List.of(1L), taskUserRepository.findUserIdsByTaskId(otherTask.getTaskId()));
+    }
+
+    @Test
+    void unassignsAllTheUsersOfTheTaskOnly() {
+        assertEquals(3, taskUserRepository.deleteAllByTaskId(task.getTaskId()));
+
+        assertEquals(List.of(), taskUserRepository.findUserIdsByTaskId(task.getTaskId()));
+        assertEquals(List.of(1L), taskUserRepository.findUserIdsByTaskId(otherTask.getTaskId()));
+    }
+
+    @Test
+    void rejectsAssigningTheSameUserTwice() {
+        assertThrows(DataIntegrityViolationException.class, () -> assign(task, 1L));
+    }
+
+
+    private void assign(Task task, long userId) {
+        taskUserRepository.saveAndFlush(TaskUser.builder().task(task).userId(userId).build());
+    }
+
+    private Task saveTask() {
+        return taskRepository.saveAndFlush(Task.builder()
+                .taskName("task")
+                .createdAt(LocalDateTime.of(2026, 3, 1, 12, 0))
+                .taskStatus(TaskStatus.TO_DO)
+                .taskPriority(TaskPriority.MEDIUM)
+                .projectId(1L)
+                .assignedUsers(new ArrayList<>())
+                .build());
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.gl.hive.TaskService.repository.search;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.TaskService.repository.TaskRepository;
+import com.gl.hive.TaskService.util.TaskEventPublisher;
+import com.gl.hive.shared.lib.model.enums.TaskPriority;
+import com.gl.hive.shared.lib.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class TaskBulkUpdateRepositoryImplTest {
+
+    private static final long PROJECT_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @MockBean
+    private TaskEventPublisher taskEventPublisher;
+
+    @Test
+    void findsTheMatchingTasksOfTheProject() {
+        Task todo = saveTask(PROJECT_ID, TaskStatus.TO_DO, NOW.plusDays(1));
+        Task inProgress = saveTask(PROJECT_ID, TaskStatus.IN_PROGRESS, NOW.plusDays(1));
+        Task otherTodo = saveTask(PROJECT_ID, TaskStatus.TO_DO, null);
+        saveTask(2L, TaskStatus.TO_DO, NOW.plusDays(1));
+        TaskSearchCriteria toDo = new TaskSearchCriteria(TaskStatus.TO_DO, null, null, null);
+
+        assertEquals(List.of(todo.getTaskId(), otherTodo.getTaskId()),
+                taskIds(taskRepository.findProgressRows(PROJECT_ID, toDo, null, 10)));
+        assertEquals(List.of(otherTodo.getTaskId()),
+                taskIds(taskRepository.findProgressRows(PROJECT_ID, toDo, List.of(inProgress.getTaskId(), otherTodo.getTaskId()), 10)));
+        assertEquals(List.of(todo.getTaskId()),
+                taskIds(taskRepository.findProgressRows(PROJECT_ID, toDo, null, 1)));
+
+        Object[] row = taskRepository.findProgressRows(PROJECT_ID, toDo, List.of(todo.getTaskId()), 10).get(0);
+        assertArrayEquals(new Object[]{todo.getTaskId(), TaskStatus.TO_DO, TaskPriority.MEDIUM, NOW.plusDays(1)}, row);
+    }
+
+    @Test
+    void completesTheTasksAndRecordsWhetherTheyWereOverdue() {
+        Task late = saveTask(PROJECT_ID, TaskStatus.IN_PROGRESS, NOW.minusDays(1));
+        Task onTime = saveTask(PROJECT_ID, TaskStatus.IN_PROGRESS, NOW.plusDays(1));
+        Task untouched = saveTask(PROJECT_ID, TaskStatus.IN_PROGRESS, NOW.minusDays(1));
+
+        int updated = taskRepository.applyPatch(List.of(late.getTaskId(), onTime.getTaskId()),
+                new TaskPatch(TaskStatus.COMPLETED, null, null), true, NOW);
+        testEntityManager.clear();
+
+        assertEquals(2, updated);
+        Task completedLate = taskRepository.findById(late.getTaskId()).orElseThrow();
+        assertEquals(TaskStatus.COMPLETED, completedLate.getTaskStatus());
+        assertEquals(NOW, completedLate.getCompletionDate());
+        assertTrue(completedLate.isHasOverdue());
+        assertFalse(taskRepository.findById(onTime.getTaskId()).orElseThrow().isHasOverdue());
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(untouched.getTaskId()).orElseThrow().getTaskStatus());
+    }
+
+    @Test
+    void comparesTheCompletionWithThePatchedDueDate() {
+        Task late = saveTask(PROJECT_ID, TaskStatus.IN_PROGRESS, NOW.minusDays(1));
+
+        taskRepository.applyPatch(List.of(late.getTaskId()),
+                new TaskPatch(TaskStatus.COMPLETED, null, NOW.plusDays(1)), true, NOW);
+        testEntityManager.clear();
+
+        Task completed = taskRepository.findById(late.getTaskId()).orElseThrow();
+        assertFalse(completed.isHasOverdue());
+        assertEquals(NOW.plusDays(1), completed.getDueDate());
+    }
+
+    @Test
+    void leavesTheFieldsThatAreNotPatched() {
+        Task task = saveTask(PROJECT_ID, TaskStatus.TO_DO, NOW.plusDays(1));
+
+        taskRepository.applyPatch(List.of(task.getTaskId()), new TaskPatch(null, TaskPriority.HIGH, null), false, NOW);
+        testEntityManager.clear();
+
+        Task patched = taskRepository.findById(task.getTaskId()).orElseThrow();
+        assertEquals(TaskPriority.HIGH, patched.getTaskPriority());
+        assertEquals(TaskStatus.TO_DO, patched.getTaskStatus());
+        assertEquals(NOW.plusDays(1), patched.getDueDate());
+        assertNull(patched.getCompletionDate());
+        assertEquals(0, taskRepository.applyPatch(List.of(), new TaskPatch(null, TaskPriority.LOW, null), false, NOW));
+    }
+
+
+    private static List<Long> taskIds(List<Object[]> rows) {
+        return rows.stream().map(row -> (Long) row[0]).toList();
+    }
+
+    private Task saveTask(long projectId, TaskStatus status, LocalDateTime dueDate) {
+        return taskRepository.saveAndFlush(Task.builder()
+                .taskName("task")
+                .dueDate(dueDate)
+                .createdAt(NOW)
+                .taskStatus(status)
+                .taskPriority(TaskPriority.MEDIUM)
+                .projectId(projectId)
+                .assignedUsers(new ArrayList<>())
+                .build());
+    }
+
+}
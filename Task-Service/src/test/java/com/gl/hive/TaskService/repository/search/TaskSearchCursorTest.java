@@ -0,0 +1,51 @@
+package com.gl.hive.TaskService.repository.search;
+
+import com.gl.hive.shared.lib.exceptions.HiveException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static com.gl.hive.TaskService.repository.search.TaskSearchCriteria.SortBy.DUE_DATE;
+import static com.gl.hive.TaskService.repository.search.TaskSearchCriteria.SortBy.TASK_ID;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchCursorTest {
+
+    @Test
+    void roundTripsTaskIdCursor() {
+        TaskSearchCursor cursor = new TaskSearchCursor(null, 42L);
+
+        assertEquals("42", cursor.encode(TASK_ID));
+        assertEquals(cursor, TaskSearchCursor.parse(cursor.encode(TASK_ID), TASK_ID));
+    }
+
+    @Test
+    void roundTripsDueDateCursor() {
+        TaskSearchCursor cursor = new TaskSearchCursor(LocalDateTime.of(2026, 3, 1, 12, 30), 42L);
+
+        assertEquals(cursor, TaskSearchCursor.parse(cursor.encode(DUE_DATE), DUE_DATE));
+    }
+
+    @Test
+    void roundTripsCursorOfTaskWithoutDueDate() {
+        TaskSearchCursor cursor = new TaskSearchCursor(null, 42L);
+
+        assertEquals("_42", cursor.encode(DUE_DATE));
+        assertEquals(cursor, TaskSearchCursor.parse(cursor.encode(DUE_DATE), DUE_DATE));
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertNull(TaskSearchCursor.parse(null, DUE_DATE));
+        assertNull(TaskSearchCursor.parse(" ", TASK_ID));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(HiveException.class, () -> TaskSearchCursor.parse("abc", TASK_ID));
+        assertThrows(HiveException.class, () -> TaskSearchCursor.parse("42", DUE_DATE));
+        assertThrows(HiveException.class, () -> TaskSearchCursor.parse("null_42", DUE_DATE));
+        assertThrows(HiveException.class, () -> TaskSearchCursor.parse("2026-03-01T12:30_x", DUE_DATE));
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.gl.hive.TaskService.repository.search;
+
+import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.TaskService.repository.TaskRepository;
+import com.gl.hive.TaskService.util.TaskEventPublisher;
+import com.gl.hive.shared.lib.model.enums.TaskPriority;
+import com.gl.hive.shared.lib.model.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.gl.hive.TaskService.repository.search.TaskSearchCriteria.SortBy.DUE_DATE;
+import static com.gl.hive.TaskService.repository.search.TaskSearchCriteria.SortBy.TASK_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class TaskSearchRepositoryImplTest {
+
+    private static final long PROJECT_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @MockBean
+    private TaskEventPublisher taskEventPublisher;
+
+    private final List<Task> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        /* two tasks share a due date, so the task id has to break the tie across a page boundary */
+        tasks.add(saveTask(NOW.plusDays(3)));
+        tasks.add(saveTask(null));
+        tasks.add(saveTask(NOW.plusDays(1)));
+        tasks.add(saveTask(NOW.plusDays(1)));
+        tasks.add(saveTask(null));
+        tasks.add(saveTask(NOW.plusDays(2)));
+        tasks.add(saveTask(null));
+        saveTask(NOW, 2L);
+    }
+
+    @Test
+    void pagesByDueDateAscendingWithUndatedTasksLast() {
+        Comparator<Task> order = Comparator.comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Task::getTaskId);
+
+        for (int size = 1; size <= tasks.size() + 1; size++)
+            assertEquals(sortedIds(order), pageThrough(DUE_DATE, Sort.Direction.ASC, size));
+    }
+
+    @Test
+    void pagesByDueDateDescendingWithUndatedTasksFirst() {
+        Comparator<Task> order = Comparator.comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Task::getTaskId)
+                .reversed();
+
+        for (int size = 1; size <= tasks.size() + 1; size++)
+            assertEquals(sortedIds(order), pageThrough(DUE_DATE, Sort.Direction.DESC, size));
+    }
+
+    @Test
+    void pagesByTaskId() {
+        assertEquals(sortedIds(Comparator.comparing(Task::getTaskId)), pageThrough(TASK_ID, Sort.Direction.ASC, 3));
+        assertEquals(sortedIds(Comparator.comparing(Task::getTaskId).reversed()), pageThrough(TASK_ID, Sort.Direction.DESC, 3));
+    }
+
+
+    /* reads the pages the way TaskManagementServiceImpl does, passing each page's cursor through its string form */
+    private List<Long> pageThrough(TaskSearchCriteria.SortBy sortBy, Sort.Direction direction, int size) {
+        TaskSearchCriteria criteria = new TaskSearchCriteria(null, null, PROJECT_ID, null);
+        List<Long> ids = new ArrayList<>();
+        TaskSearchCursor cursor = null;
+        while (true) {
+            List<Task> page = taskRepository.search(criteria, sortBy, direction, cursor, size + 1);
+            page.stream().limit(size).map(Task::getTaskId).forEach(ids::add);
+            if (page.size() <= size)
+                return ids;
+
+            Task last = page.get(size - 1);
+            cursor = TaskSearchCursor.parse(new TaskSearchCursor(last.getDueDate(), last.getTaskId()).encode(sortBy), sortBy);
+        }
+    }
+
+    private List<Long> sortedIds(Comparator<Task> order) {
+        return tasks.stream().sorted(order).map(Task::getTaskId).toList();
+    }
+
+    private Task saveTask(LocalDateTime dueDate) {
+        return saveTask(dueDate, PROJECT_ID);
+    }
+
+    private Task saveTask(LocalDateTime dueDate, Long projectId) {
+        return taskRepository.save(Task.builder()
+                .taskName("task " + tasks.size())
+                .dueDate(dueDate)
+                .createdAt(NOW)
+                .taskStatus(TaskStatus.TO_DO)
+                .taskPriority(TaskPriority.MEDIUM)
+                .projectId(projectId)
+                .assignedUsers(new ArrayList<>())
+                .build());
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.gl.hive.TaskService.service.module.export;
+
+import com.gl.hive.TaskService.fegin.client.AuthUserFeignClient;
+import com.gl.hive.TaskService.model.entity.TaskExportJob;
+import com.gl.hive.TaskService.repository.TaskExportJobRepository;
+import com.gl.hive.shared.lib.exceptions.HiveException;
+import com.gl.hive.shared.lib.exceptions.ResourceNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportJobServiceTest {
+
+    private static final String INSTANCE = "task-1:8080";
+    private static final String TOKEN = "Bearer token";
+
+    @Mock
+    private TaskExportJobRepository taskExportJobRepository;
+    @Mock
+    private TaskExportService taskExportService;
+    @Mock
+    private ThreadPoolTaskExecutor taskExportExecutor;
+    @Mock
+    private AuthUserFeignClient authUserFeignClient;
+    @Mock
+    private HttpServletRequest httpServletRequest;
+
+    @TempDir
+    private Path directory;
+
+    private TaskExportJobService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new TaskExportJobService(taskExportJobRepository, taskExportService, taskExportExecutor,
+                authUserFeignClient, httpServletRequest, directory, Duration.ofHours(1), INSTANCE);
+        when(httpServletRequest.getHeader(AUTHORIZATION)).thenReturn(TOKEN);
+        when(authUserFeignClient.getCurrentUsers_Id(TOKEN)).thenReturn(1L);
+    }
+
+    @Test
+    void returnsTheJobToTheUserWhoRequestedIt() {
+        when(taskExportJobRepository.findById("job")).thenReturn(Optional.of(job("job", 1L, INSTANCE)));
+
+        assertEquals(INSTANCE, service.getJob("job").getOwnerInstance());
+    }
+
+    @Test
+    void rejectsTheJobOfAnotherUser() {
+        when(taskExportJobRepository.findById("job")).thenReturn(Optional.of(job("job", 2L, INSTANCE)));
+
+        HiveException getException = assertThrows(HiveException.class, () -> service.getJob("job"));
+        assertEquals(HttpStatus.FORBIDDEN, getException.getHttpStatus());
+        HiveException downloadException = assertThrows(HiveException.class, () -> service.getFinishedJob("job"));
+        assertEquals(HttpStatus.FORBIDDEN, downloadException.getHttpStatus());
+    }
+
+    @Test
+    void checksTheFileOnlyOnTheOwnerInstance() throws Exception {
+        TaskExportJob local = job("local", 1L, INSTANCE);
+        TaskExportJob remote = job("remote", 1L, "task-2:8080");
+        when(taskExportJobRepository.findById("local")).thenReturn(Optional.of(local));
+        when(taskExportJobRepository.findById("remote")).thenReturn(Optional.of(remote));
+
+        assertThrows(ResourceNotFoundException.class, () -> service.getFinishedJob("local"));
+        Files.writeString(service.resolve(local), "exported");
+        assertTrue(service.isLocal(service.getFinishedJob("local")));
+
+        assertFalse(service.isLocal(service.getFinishedJob("remote")));
+    }
+
+
+    private static TaskExportJob job(String jobId, Long requestedByUserId, String ownerInstance) {
+        return TaskExportJob.builder()
+                .jobId(jobId)
+                .ownerInstance(ownerInstance)
+                .requestedByUserId(requestedByUserId)
+                .status(TaskExportJob.Status.DONE)
+                .format(TaskExportFormat.CSV)
+                .fileName(jobId + ".csv")
+                .build();
+    }
+
+}
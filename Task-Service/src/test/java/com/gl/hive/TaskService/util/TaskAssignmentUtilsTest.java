@@ -0,0 +1,109 @@
+package com.gl.hive.TaskService.util;
+
+import com.gl.hive.TaskService.fegin.client.AuthUserFeignClient;
+import com.gl.hive.TaskService.fegin.client.ProjectUtilFeignClient;
+import com.gl.hive.TaskService.model.entity.Task;
+import com.gl.hive.TaskService.repository.TaskUserRepository;
+import com.gl.hive.shared.lib.exceptions.HiveException;
+import com.gl.hive.shared.lib.model.dto.UserDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskAssignmentUtilsTest {
+
+    private static final long PROJECT_ID = 7L;
+    private static final long TASK_ID = 70L;
+
+    @Mock
+    private AuthUserFeignClient authFeignClient;
+    @Mock
+    private ProjectUtilFeignClient projectFeignClient;
+    @Mock
+    private TaskUserRepository taskUserRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TaskAssignmentUtils taskAssignmentUtils;
+
+    private final Task task = Task.builder().taskId(TASK_ID).projectId(PROJECT_ID).build();
+
+    @Test
+    void assignsTheRequestedMembersThatAreNotAssignedYet() {
+        // 1 is assigned already, 3 is not a member of the project, 4 does not exist
+        when(authFeignClient.getUserDTOsByIds(Set.of(1L, 2L, 3L, 4L))).thenReturn(List.of(user(1L), user(2L), user(3L)));
+        when(projectFeignClient.filterMembersOfProject(PROJECT_ID, Set.of(1L, 2L, 3L))).thenReturn(List.of(1L, 2L));
+        when(taskUserRepository.findUserIdsByTaskIdAndUserIdIn(TASK_ID, Set.of(1L, 2L))).thenReturn(List.of(1L));
+
+        Map<String, String> responseMap = new LinkedHashMap<>();
+        taskAssignmentUtils.assignTaskToUserList(task, PROJECT_ID, Arrays.asList(1L, 2L, null, 3L, 4L, 2L), responseMap);
+
+        assertEquals(List.of(List.of(TASK_ID, 2L)), insertedRows());
+        assertEquals(List.of("user1", "user2", "user3", "4"), List.copyOf(responseMap.keySet()));
+        assertTrue(responseMap.get("user1").contains("already assigned"));
+        assertTrue(responseMap.get("user2").contains("Success"));
+        assertTrue(responseMap.get("user3").contains("NOT a member"));
+        assertTrue(responseMap.get("4").contains("not Found"));
+    }
+
+    @Test
+    void skipsTheLookupsAndTheInsertWhenNoUserIsFound() {
+        when(authFeignClient.getUserDTOsByIds(Set.of(1L))).thenReturn(List.of());
+
+        Map<String, String> responseMap = new HashMap<>();
+        taskAssignmentUtils.assignTaskToUserList(task, PROJECT_ID, List.of(1L), responseMap);
+
+        verifyNoInteractions(projectFeignClient, taskUserRepository, jdbcTemplate);
+        assertTrue(responseMap.get("1").contains("not Found"));
+    }
+
+    @Test
+    void assignsTheMembersThatAreNotAssignedYet() {
+        when(taskUserRepository.findUserIdsByTaskId(TASK_ID)).thenReturn(List.of(1L));
+
+        Map<String, String> responseMap = new HashMap<>();
+        taskAssignmentUtils.assignTaskToMembers(task, List.of(user(1L), user(2L), user(3L), user(2L)), responseMap);
+
+        assertEquals(List.of(List.of(TASK_ID, 2L), List.of(TASK_ID, 3L)), insertedRows());
+        assertTrue(responseMap.get("user1").contains("already assigned"));
+        assertTrue(responseMap.get("user2").contains("Success"));
+        assertTrue(responseMap.get("user3").contains("Success"));
+    }
+
+    @Test
+    void failsTheAssignmentWhenTheInsertIsRejected() {
+        when(taskUserRepository.findUserIdsByTaskId(TASK_ID)).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataIntegrityViolationException("fk_task"));
+
+        HiveException e = assertThrows(HiveException.class,
+                () -> taskAssignmentUtils.assignTaskToMembers(task, List.of(user(1L)), new HashMap<>()));
+        assertEquals(HttpStatus.CONFLICT, e.getHttpStatus());
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> insertedRows() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("ON DUPLICATE KEY UPDATE"), rows.capture());
+        return rows.getValue().stream().map(List::of).toList();
+    }
+
+    private static UserDTO user(long userId) {
+        return UserDTO.builder().userId(userId).username("user" + userId).build();
+    }
+
+}
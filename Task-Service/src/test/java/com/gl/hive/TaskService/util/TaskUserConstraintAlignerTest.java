@@ -0,0 +1,71 @@
+package com.gl.hive.TaskService.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskUserConstraintAlignerTest {
+
+    private static final String DROP_INDEX = "ALTER TABLE tasks_users DROP INDEX `UK_task_id`";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TaskUserConstraintAligner taskUserConstraintAligner;
+
+    @Test
+    void dropsTheUniqueIndexOnTaskId() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("UK_task_id"));
+
+        taskUserConstraintAligner.dropTaskIdUniqueIndex();
+
+        verify(jdbcTemplate).execute(DROP_INDEX);
+    }
+
+    @Test
+    void doesNothingOnAnAlignedSchema() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of());
+
+        taskUserConstraintAligner.dropTaskIdUniqueIndex();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void toleratesTheIndexDroppedByAnotherInstance() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("UK_task_id"), List.of());
+        doThrow(cantDropIndex()).when(jdbcTemplate).execute(DROP_INDEX);
+
+        assertDoesNotThrow(() -> taskUserConstraintAligner.dropTaskIdUniqueIndex());
+    }
+
+    @Test
+    void failsWhenTheIndexIsStillThere() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("UK_task_id"));
+        doThrow(cantDropIndex()).when(jdbcTemplate).execute(DROP_INDEX);
+
+        assertThrows(BadSqlGrammarException.class, () -> taskUserConstraintAligner.dropTaskIdUniqueIndex());
+    }
+
+
+    private static BadSqlGrammarException cantDropIndex() {
+        return new BadSqlGrammarException("drop index", DROP_INDEX,
+                new SQLException("Can't DROP 'UK_task_id'; check that column/key exists", "42000", 1091));
+    }
+
+}
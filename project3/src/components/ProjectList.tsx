@@ -14,9 +14,13 @@ import ProjectEditForm from './ProjectEditForm';
 interface ProjectListProps {
   projects: any[];
   onUpdate: () => void;
+  // whether there is another page of projects, and how to load it
+  hasMore?: boolean;
+  loadingMore?: boolean;
+  onLoadMore?: () => void;
 }
 
-const ProjectList: React.FC<ProjectListProps> = ({ projects, onUpdate }) => {
+const ProjectList: React.FC<ProjectListProps> = ({ projects, onUpdate, hasMore = false, loadingMore = false, onLoadMore }) => {
   const { user } = useAuth();
   const [searchTerm, setSearchTerm] = useState('');
   const [searchResults, setSearchResults] = useState([]);
@@ -86,12 +90,8 @@ const ProjectList: React.FC<ProjectListProps> = ({ projects, onUpdate }) => {
   const handleSearch = async () => {
     setSearchLoading(true);
     try {
-      let results;
-      if (searchTerm.trim()) {
-        results = await projectAPI.searchByName(searchTerm);
-      } else {
-        results = await projectAPI.search();
-      }
+      // an empty search goes back to the paged list of the parent
+      const results = searchTerm.trim() ? await projectAPI.searchByName(searchTerm) : [];
       setSearchResults(results || []);
     } catch (error) {
       console.error('Search failed:', error);
@@ -474,6 +474,19 @@ const ProjectList: React.FC<ProjectListProps> = ({ projects, onUpdate }) => {
         })}
       </div>
 
+      {searchResults.length === 0 && hasMore && onLoadMore && (
+        <div className="flex justify-center">
+          <Button
+            variant="outline"
+            onClick={onLoadMore}
+            disabled={loadingMore}
+            className="border-accent/30 text-secondary"
+          >
+            {loadingMore ? 'Loading...' : 'Load more projects'}
+          </Button>
+        </div>
+      )}
+
       {displayProjects.length === 0 && (
         <div className="text-center py-12">
           <div className="w-24 h-24 bg-accent/20 rounded-full flex items-center justify-center mx-auto mb-4">
@@ -34,6 +34,7 @@ const TaskList: React.FC<TaskListProps> = ({ tasks, onUpdate, user }) => {
   const [originalAssignedUser, setOriginalAssignedUser] = useState<string>('');
   const [selectedProjectName, setSelectedProjectName] = useState<string>('');
   const [projects, setProjects] = useState<{ projectId: string, projectName: string }[]>([]);
+  const [nextProjectCursor, setNextProjectCursor] = useState<string | null>(null);
   const [projectTimeFilter, setProjectTimeFilter] = useState<string>('all');
 
   // Only allow task management for ADMIN or PROJECT_LEADER
@@ -301,29 +302,30 @@ const TaskList: React.FC<TaskListProps> = ({ tasks, onUpdate, user }) => {
     : normalizedTasks.filter(task => String(task.projectName) === String(selectedProjectName));
   console.log('Filtered tasks for selected project:', filteredTasksByProject);
 
-  // Fetch all projects for the project selection buttons
-  useEffect(() => {
-    // Fetch all projects for the project selection buttons
-    async function fetchProjects() {
-      try {
-        const projectsData = await projectAPI.search();
-        const today = new Date();
-        const filtered = projectsData.filter((p: any) => {
-          const start = p.startDate ? new Date(p.startDate) : null;
-          const end = p.endDate ? new Date(p.endDate) : null;
-          if (!start || !end) return false;
-          // Active: today >= start && today <= end
-          // Future: today < start
-          return (today >= start && today <= end) || (today < start);
-        }).map((p: any) => ({
-          projectId: String(p.projectId),
-          projectName: p.projectName || p.name || p.title || 'Unnamed Project',
-        }));
-        setProjects(filtered);
-      } catch (err) {
-        setProjects([]);
-      }
+  // Fetches the page of projects after the cursor (the first page if null) for the project selection buttons
+  const fetchProjects = async (after: string | null = null) => {
+    try {
+      const page = await projectAPI.search(after);
+      const today = new Date();
+      const filtered = page.items.filter((p: any) => {
+        const start = p.startDate ? new Date(p.startDate) : null;
+        const end = p.endDate ? new Date(p.endDate) : null;
+        if (!start || !end) return false;
+        // Active: today >= start && today <= end
+        // Future: today < start
+        return (today >= start && today <= end) || (today < start);
+      }).map((p: any) => ({
+        projectId: String(p.projectId),
+        projectName: p.projectName || p.name || p.title || 'Unnamed Project',
+      }));
+      setNextProjectCursor(page.nextCursor);
+      setProjects((loaded) => after ? [...loaded, ...filtered] : filtered);
+    } catch (err) {
+      if (!after) setProjects([]);
     }
+  };
+
+  useEffect(() => {
     fetchProjects();
   }, []);
 
@@ -352,6 +354,14 @@ const TaskList: React.FC<TaskListProps> = ({ tasks, onUpdate, user }) => {
             </button>
           ))
         )}
+        {nextProjectCursor && (
+          <button
+            onClick={() => fetchProjects(nextProjectCursor)}
+            className="px-4 py-2 rounded border transition-colors duration-150 bg-white text-secondary border-accent/30 hover:bg-accent/10"
+          >
+            More projects
+          </button>
+        )}
         <button
           onClick={() => setSelectedProjectName('')}
           className={`px-4 py-2 rounded border transition-colors duration-150 ${!selectedProjectName ? 'bg-primary text-white border-primary' : 'bg-white text-primary border-accent/30 hover:bg-accent/10'}`}
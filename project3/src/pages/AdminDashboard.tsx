@@ -81,7 +81,7 @@ const AdminDashboard = () => {
 
       // Fetch projects separately and handle their errors independently
       try {
-        const projectsData = await projectAPI.search();
+        const projectsData = (await projectAPI.search()).items;
         console.log('Projects data received:', projectsData);
         setProjects(projectsData);
       } catch (projectError) {
@@ -147,7 +147,7 @@ const Dashboard = () => {
 
             // Load demo data to get initial information
             const [projectsData, tasksData, teamData] = await Promise.all([
-                projectAPI.search().catch(() => []),
+                projectAPI.search().then(page => page.items).catch(() => []),
                 taskAPI.search().catch(() => []),
                 teamDataPromise
             ]);
@@ -34,6 +34,8 @@ const LeaderDashboard = () => {
     todoTasks: 0
   });
   const [projectTimeFilter, setProjectTimeFilter] = useState<string>('all');
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     if (user) {
@@ -46,17 +48,31 @@ const LeaderDashboard = () => {
     updateTaskStats(allTasks, selectedProjectName);
   }, [selectedProjectName, allTasks]);
 
-  const loadData = async () => {
+  const loadData = () => loadProjects(null, [], []);
+
+  const loadMoreProjects = async () => {
+    setLoadingMore(true);
+    try {
+      await loadProjects(nextCursor, myProjects, allTasks);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  // Loads the page of projects after the cursor (the first page if null) and adds it to the already loaded ones
+  const loadProjects = async (after: string | null, loadedProjects: any[], loadedTasks: any[]) => {
     try {
-      const projects = await projectAPI.search();
+      const page = await projectAPI.search(after);
+      setNextCursor(page.nextCursor);
       // Backend already filters projects for PROJECT_LEADERs, but double-check for safety
-      const leaderProjects = projects.filter((p: any) => p.leaderId === user?.id);
+      const pageProjects = page.items.filter((p: any) => p.leaderId === user?.id);
+      const leaderProjects = [...loadedProjects, ...pageProjects];
       setMyProjects(leaderProjects);
-      // Fetch tasks for all projects
-      let allProjectTasks: any[] = [];
+      // Fetch tasks for the projects of the page
+      let allProjectTasks: any[] = [...loadedTasks];
       
       await Promise.all(
-        leaderProjects.map(async (project: any) => {
+        pageProjects.map(async (project: any) => {
           try {
             const projectTasks = await taskAPI.search({ projectId: project.projectId });
             console.log('Fetched tasks for project', project.projectId, projectTasks);
@@ -365,7 +381,13 @@ const LeaderDashboard = () => {
             </div>
           </CardHeader>
           <CardContent>
-            <ProjectList projects={filteredMyProjects} onUpdate={handleProjectCreated} />
+            <ProjectList
+              projects={filteredMyProjects}
+              onUpdate={handleProjectCreated}
+              hasMore={nextCursor !== null}
+              loadingMore={loadingMore}
+              onLoadMore={loadMoreProjects}
+            />
           </CardContent>
         </Card>
 
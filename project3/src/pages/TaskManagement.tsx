@@ -42,6 +42,7 @@ const TaskManagement = () => {
   const [showTaskForm, setShowTaskForm] = useState(false);
   const [loading, setLoading] = useState(true);
   const [currentView, setCurrentView] = useState('kanban');
+  const [nextProjectCursor, setNextProjectCursor] = useState<string | null>(null);
 
   const canCreateTasks = user && (user.roles.includes('ADMIN') || user.roles.includes('PROJECT_LEADER'));
 
@@ -67,30 +68,43 @@ const TaskManagement = () => {
     return 'active';
   }
 
+  // Keeps the projects the user may filter by and adds their member count and status
+  const toListedProjects = (projects: any[]) => projects
+    .filter((p) =>
+      user.roles.includes('ADMIN') || user.roles.includes('PROJECT_LEADER')
+        ? true
+        : p.leaderId === user?.id
+    )
+    .map((project) => {
+      const projectMembers = new Set();
+      if (project.members && project.members.projectMembers) {
+        project.members.projectMembers.forEach((member) => {
+          projectMembers.add(member.userId);
+        });
+      }
+      return {
+        ...project,
+        memberCount: projectMembers.size,
+        _status: getProjectStatus(project),
+      };
+    });
+
+  const loadMoreProjects = async () => {
+    try {
+      const page = await projectAPI.search(nextProjectCursor);
+      setNextProjectCursor(page.nextCursor);
+      setProjects((loaded) => [...loaded, ...toListedProjects(page.items)]);
+    } catch (error) {
+      console.error('Failed to load more projects:', error);
+    }
+  };
+
   const loadData = async () => {
     try {
-      const projects = await projectAPI.search();
-      const leaderProjects = projects.filter((p) =>
-        user.roles.includes('ADMIN') || user.roles.includes('PROJECT_LEADER')
-          ? true
-          : p.leaderId === user?.id
-      );
-      setProjects(leaderProjects);
-      // Add memberCount to each project
-      const updatedProjects = leaderProjects.map((project) => {
-        const projectMembers = new Set();
-        if (project.members && project.members.projectMembers) {
-          project.members.projectMembers.forEach((member) => {
-            projectMembers.add(member.userId);
-          });
-        }
-        return {
-          ...project,
-          memberCount: projectMembers.size,
-          _status: getProjectStatus(project),
-        };
-      });
-      setProjects(updatedProjects);
+      const page = await projectAPI.search();
+      const projects = page.items;
+      setNextProjectCursor(page.nextCursor);
+      setProjects(toListedProjects(projects));
       // Load tasks
       let tasksData = [];
       if (user.roles.includes('ADMIN') || user.roles.includes('PROJECT_LEADER')) {
@@ -386,6 +400,12 @@ const TaskManagement = () => {
                     ))}
                   </SelectContent>
                 </Select>
+
+                {nextProjectCursor && (
+                  <Button variant="outline" onClick={loadMoreProjects} className="border-accent/30 text-secondary">
+                    More projects
+                  </Button>
+                )}
               </div>
             </CardContent>
           </Card>
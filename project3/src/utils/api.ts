@@ -1,6 +1,6 @@
 const API_BASE = 'http://localhost:9999';
 
-export const apiRequest = async (endpoint: string, options: RequestInit = {}) => {
+const sendRequest = async (endpoint: string, options: RequestInit = {}) => {
   const token = localStorage.getItem('token');
 
   const defaultHeaders: HeadersInit = {
@@ -19,32 +19,63 @@ export const apiRequest = async (endpoint: string, options: RequestInit = {}) =>
     },
   };
 
-  try {
-    const response = await fetch(`${API_BASE}${endpoint}`, config);
-
-    if (!response.ok) {
-      let errorMsg = `HTTP error! status: ${response.status}`;
-      let errorData = null;
-      try {
-        errorData = await response.json();
-        if (errorData && errorData.errorMessage) {
-          errorMsg = errorData.errorMessage;
-        }
-      } catch (e) {
-        // fallback to default errorMsg
+  const response = await fetch(`${API_BASE}${endpoint}`, config);
+
+  if (!response.ok) {
+    let errorMsg = `HTTP error! status: ${response.status}`;
+    let errorData = null;
+    try {
+      errorData = await response.json();
+      if (errorData && errorData.errorMessage) {
+        errorMsg = errorData.errorMessage;
       }
-      const error = new Error(errorMsg);
-      (error as any).status = response.status;
-      (error as any).data = errorData;
-      throw error;
+    } catch (e) {
+      // fallback to default errorMsg
     }
+    const error = new Error(errorMsg);
+    (error as any).status = response.status;
+    (error as any).data = errorData;
+    throw error;
+  }
 
-    const contentType = response.headers.get('content-type');
-    if (contentType && contentType.includes('application/json')) {
-      return await response.json();
-    }
+  return response;
+};
+
+const readBody = async (response: Response) => {
+  const contentType = response.headers.get('content-type');
+  if (contentType && contentType.includes('application/json')) {
+    return await response.json();
+  }
+
+  return await response.text();
+};
 
-    return await response.text();
+export const apiRequest = async (endpoint: string, options: RequestInit = {}) => {
+  try {
+    return await readBody(await sendRequest(endpoint, options));
+  } catch (error) {
+    console.error('API request failed:', error);
+    throw error;
+  }
+};
+
+export interface Page<T = any> {
+  items: T[];
+  // the cursor of the next page, null on the last page
+  nextCursor: string | null;
+}
+
+// Reads one page of a cursor-paginated endpoint; pass the nextCursor of a page as `after` to read the page after it
+export const apiRequestPage = async (endpoint: string, after: string | null = null, pageSize = 100): Promise<Page> => {
+  const separator = endpoint.includes('?') ? '&' : '?';
+  const afterParam = after ? `&after=${encodeURIComponent(after)}` : '';
+  try {
+    const response = await sendRequest(`${endpoint}${separator}size=${pageSize}${afterParam}`);
+    const items = await readBody(response);
+    return {
+      items: Array.isArray(items) ? items : [],
+      nextCursor: response.headers.get('X-Next-Cursor'),
+    };
   } catch (error) {
     console.error('API request failed:', error);
     throw error;
@@ -127,7 +158,7 @@ export const projectAPI = {
     body: JSON.stringify(projectData)
   }),
   listMembers: (projectId: string) => apiRequest(`/api/v1/project/list-members/${projectId}`),
-  search: () => apiRequest('/api/v1/search_project'),
+  search: (after: string | null = null): Promise<Page> => apiRequestPage('/api/v1/search_project', after),
   searchByName: (projectName: string) => apiRequest(`/api/v1/search_project/${projectName}`),
   addMember: (projectId: string | number, userId: string | number) => apiRequest(`/api/v1/project/${projectId}/add-member/${userId}`, { method: 'POST' }),
   removeMember: (projectId: string, userId: string) => apiRequest(`/api/v1/project/${projectId}/remove-member/${userId}`, { method: 'DELETE' }),